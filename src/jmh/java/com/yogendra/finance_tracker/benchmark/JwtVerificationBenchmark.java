@@ -0,0 +1,66 @@
+package com.yogendra.finance_tracker.benchmark;
+
+import com.yogendra.finance_tracker.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of verifying a bearer token in JwtAuthenticationFilter.
+ * <ul>
+ *     <li>{@code legacyParseTwice} - the old flow: getUsernameFromToken then validateToken,
+ *     each building a fresh parser and checking the signature</li>
+ *     <li>{@code verifyUncached} - a single parse with the shared parser</li>
+ *     <li>{@code verifyCached} - a repeated token served from the verification cache</li>
+ *     <li>{@code generateToken} - signing a new token at login</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String JWT_SECRET = "your_super_long_secret_key_that_is_at_least_64_characters_long_1234567890";
+
+    private Key key;
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String token;
+
+    @Setup
+    public void setup() {
+        key = Keys.hmacShaKeyFor(JWT_SECRET.getBytes());
+        uncachedProvider = new JwtTokenProvider(0);
+        cachedProvider = new JwtTokenProvider();
+        token = cachedProvider.generateToken("user@example.com", 42L);
+    }
+
+    @Benchmark
+    public boolean legacyParseTwice() {
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return claims.getSubject() != null;
+    }
+
+    @Benchmark
+    public Claims verifyUncached() {
+        return uncachedProvider.verifyToken(token);
+    }
+
+    @Benchmark
+    public Claims verifyCached() {
+        return cachedProvider.verifyToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedProvider.generateToken("user@example.com", 42L);
+    }
+}
@@ -0,0 +1,62 @@
+package com.yogendra.finance_tracker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yogendra.finance_tracker.dto.CursorPageResponse;
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.model.TransactionType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a listing response body: the offset {@code Page<TransactionResponse>}
+ * (including its pageable and sort metadata) against the cursor page used by the keyset mode.
+ * The mapper is built the way Spring Boot builds the MVC one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<TransactionResponse> page;
+    private CursorPageResponse<TransactionResponse> cursorPage;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<TransactionResponse> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new TransactionResponse((long) i, BigDecimal.valueOf(1000 + i, 2),
+                    i % 3 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE, "Transaction " + i,
+                    LocalDate.of(2025, 1, 1).plusDays(i), (long) (i % 5), "Category " + (i % 5)));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "date")), 10_000);
+        cursorPage = new CursorPageResponse<>(content, content.size(), "MjAyNS0wMS0wMTox");
+    }
+
+    @Benchmark
+    public byte[] offsetPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cursorPage() throws Exception {
+        return objectMapper.writeValueAsBytes(cursorPage);
+    }
+}
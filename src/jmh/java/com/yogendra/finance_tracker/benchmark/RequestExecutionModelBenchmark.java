@@ -0,0 +1,104 @@
+package com.yogendra.finance_tracker.benchmark;
+
+import com.yogendra.finance_tracker.config.ConnectionLimitingDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Burst of blocking requests served by Tomcat's default 200 platform threads versus one virtual
+ * thread per request. Each request holds one of {@code poolSize} connections for {@code dbMillis},
+ * then blocks {@code otherMillis} without one (serialization, socket writes). The pool is the
+ * {@link ConnectionLimitingDataSource} of the virtual-threads profile over a non-blocking stub.
+ * Throughput is bursts per millisecond; sample time gives burst latency percentiles.
+ * The virtual mode needs Java 21+; on 17 run with {@code -p mode=platform}.
+ * <p>
+ * This is a model, not a measurement of the application: database and other work are
+ * {@code parkNanos} calls, and no controller, Hibernate or real pool is involved. Use the load
+ * test for the service's own request path.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestExecutionModelBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param("2000")
+    public int burst;
+
+    @Param("20")
+    public int poolSize;
+
+    @Param("1")
+    public int dbMillis;
+
+    @Param("20")
+    public int otherMillis;
+
+    private ExecutorService executor;
+    private ConnectionLimitingDataSource dataSource;
+
+    @Setup
+    public void setup() throws Exception {
+        // The stub pool itself never blocks; the limiter is the only admission control
+        dataSource = new ConnectionLimitingDataSource(new StubDataSource(), poolSize, Duration.ofSeconds(30));
+        executor = mode.equals("virtual")
+                ? (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null)
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int serveBurst() throws Exception {
+        List<Future<?>> requests = new ArrayList<>(burst);
+        for (int i = 0; i < burst; i++) {
+            requests.add(executor.submit(this::handleRequest));
+        }
+        for (Future<?> request : requests) {
+            request.get();
+        }
+        return requests.size();
+    }
+
+    private Void handleRequest() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(dbMillis));
+        }
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(otherMillis));
+        return null;
+    }
+
+    private static class StubDataSource extends AbstractDataSource {
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> null);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+    }
+}
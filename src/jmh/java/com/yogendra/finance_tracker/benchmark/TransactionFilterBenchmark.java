@@ -0,0 +1,112 @@
+package com.yogendra.finance_tracker.benchmark;
+
+import com.yogendra.finance_tracker.FinanceTrackerApplication;
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.CategoryRepository;
+import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtered listing through {@code TransactionServiceImpl.getTransactionsWithFilters}: building the
+ * specification, rendering the criteria query and running page and count queries, against an
+ * in-memory H2 database in MySQL mode seeded with {@code rows} transactions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class TransactionFilterBenchmark {
+
+    @Param({"none", "type", "category", "dateRange", "all"})
+    public String filter;
+
+    @Param("5000")
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private Long userId;
+    private Long categoryId;
+    private final Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "date"));
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(FinanceTrackerApplication.class)
+                .run("--spring.profiles.active=h2", "--server.port=0", "--logging.level.root=WARN");
+        transactionService = context.getBean(TransactionService.class);
+
+        User user = new User();
+        user.setEmail("bench@example.com");
+        user.setName("Bench User");
+        user.setPassword("password");
+        userId = context.getBean(UserRepository.class).save(user).getId();
+
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Category category = new Category();
+            category.setName("Category " + i);
+            category.setUser(user);
+            categories.add(context.getBean(CategoryRepository.class).save(category));
+        }
+        categoryId = categories.get(0).getId();
+
+        for (int i = 0; i < rows; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setAmount(BigDecimal.valueOf(100 + i % 900));
+            transaction.setType(i % 3 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE);
+            transaction.setDescription("Transaction " + i);
+            transaction.setDate(LocalDate.of(2020, 1, 1).plusDays(i % 1800));
+            transaction.setCategory(categories.get(i % categories.size()));
+            transactionService.createTransaction(transaction, userId);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TransactionResponse> listWithFilter() {
+        TransactionType type = null;
+        Long category = null;
+        LocalDate startDate = null;
+        LocalDate endDate = null;
+        switch (filter) {
+            case "type" -> type = TransactionType.EXPENSE;
+            case "category" -> category = categoryId;
+            case "dateRange" -> {
+                startDate = LocalDate.of(2022, 1, 1);
+                endDate = LocalDate.of(2022, 12, 31);
+            }
+            case "all" -> {
+                type = TransactionType.EXPENSE;
+                category = categoryId;
+                startDate = LocalDate.of(2022, 1, 1);
+                endDate = LocalDate.of(2022, 12, 31);
+            }
+            default -> {
+            }
+        }
+        return transactionService.getTransactionsWithFilters(userId, type, category, startDate, endDate, pageable);
+    }
+}
@@ -0,0 +1,64 @@
+package com.yogendra.finance_tracker.benchmark;
+
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a page of Transaction entities to {@link TransactionResponse} with
+ * {@code fromEntity}, as the create/update endpoints and any entity-based read do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class TransactionMappingBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private List<Transaction> transactions;
+
+    @Setup
+    public void setup() {
+        User user = new User();
+        user.setId(1L);
+        transactions = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Category category = new Category();
+            category.setId((long) (i % 5));
+            category.setName("Category " + (i % 5));
+            category.setUser(user);
+
+            Transaction transaction = new Transaction();
+            transaction.setId((long) i);
+            transaction.setAmount(BigDecimal.valueOf(1000 + i, 2));
+            transaction.setType(i % 3 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE);
+            transaction.setDescription("Transaction " + i);
+            transaction.setDate(LocalDate.of(2025, 1, 1).plusDays(i));
+            transaction.setCategory(category);
+            transaction.setUser(user);
+            transactions.add(transaction);
+        }
+    }
+
+    @Benchmark
+    public List<TransactionResponse> fromEntityPage() {
+        List<TransactionResponse> responses = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            responses.add(TransactionResponse.fromEntity(transaction));
+        }
+        return responses;
+    }
+}
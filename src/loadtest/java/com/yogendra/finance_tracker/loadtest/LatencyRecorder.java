@@ -0,0 +1,78 @@
+package com.yogendra.finance_tracker.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Latencies of one endpoint as seen by one worker thread; merged per endpoint at the end.
+ * Raw samples are kept so percentiles are exact. Requests turned away by the rate or
+ * concurrency limit are only counted, so their fast rejections do not skew the latencies.
+ */
+class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+    private long rejected;
+
+    void rejected() {
+        rejected++;
+    }
+
+    void record(long nanos, boolean success) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (size + other.size > samples.length) {
+            samples = Arrays.copyOf(samples, Math.max(samples.length * 2, size + other.size));
+        }
+        System.arraycopy(other.samples, 0, samples, size, other.size);
+        size += other.size;
+        errors += other.errors;
+        rejected += other.rejected;
+    }
+
+    long count() {
+        return size;
+    }
+
+    Map<String, Object> summary(double measuredSeconds) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", size);
+        summary.put("errors", errors);
+        summary.put("rejected", rejected);
+        summary.put("throughputPerSecond", round(size / measuredSeconds));
+        summary.put("p50Ms", millis(percentile(sorted, 0.50)));
+        summary.put("p95Ms", millis(percentile(sorted, 0.95)));
+        summary.put("p99Ms", millis(percentile(sorted, 0.99)));
+        summary.put("maxMs", millis(size > 0 ? sorted[size - 1] : 0));
+        return summary;
+    }
+
+    // Nearest-rank percentile
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
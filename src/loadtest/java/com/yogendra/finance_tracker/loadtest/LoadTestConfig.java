@@ -0,0 +1,51 @@
+package com.yogendra.finance_tracker.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load-test settings, parsed from {@code --name=value} arguments.
+ */
+record LoadTestConfig(
+        int users,
+        int categoriesPerUser,
+        int transactionsPerUser,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        long seed,
+        Path report,
+        boolean rateLimits
+) {
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        LoadTestConfig config = new LoadTestConfig(
+                Integer.parseInt(options.getOrDefault("users", "20")),
+                Integer.parseInt(options.getOrDefault("categories", "8")),
+                Integer.parseInt(options.getOrDefault("transactions", "500")),
+                Integer.parseInt(options.getOrDefault("concurrency", "16")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30"))),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                Path.of(options.getOrDefault("report", "target/loadtest-report.json")),
+                Boolean.parseBoolean(options.getOrDefault("rate-limits", "false"))
+        );
+        options.keySet().removeAll(List.of("users", "categories", "transactions", "concurrency",
+                "warmup", "duration", "seed", "report", "rate-limits"));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        return config;
+    }
+}
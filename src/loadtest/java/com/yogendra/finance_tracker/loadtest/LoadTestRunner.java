@@ -0,0 +1,342 @@
+package com.yogendra.finance_tracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yogendra.finance_tracker.FinanceTrackerApplication;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.CategoryRepository;
+import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.service.impl.TransactionBatchWriter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the application on the in-memory H2 profile, seeds users, categories and transactions,
+ * then drives a fixed mix of authenticated traffic from {@code concurrency} threads. After a
+ * warmup it records every request and writes throughput and p50/p95/p99 latency per endpoint
+ * as JSON. Each worker thread has its own user and random seed, so runs are repeatable.
+ * Rate limits are off unless {@code --rate-limits=true}; 429 and 503 answers are then reported
+ * as rejected rather than timed.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--users=20 --transactions=500 --concurrency=16 --duration=30"
+ * </pre>
+ */
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "password";
+
+    // Operation mix, weights out of 100
+    private enum Operation {
+        LOGIN("POST /api/auth/login", 5),
+        LIST_TRANSACTIONS("GET /api/transactions", 35),
+        CREATE_TRANSACTION("POST /api/transactions", 20),
+        UPDATE_TRANSACTION("PUT /api/transactions/{id}", 15),
+        DELETE_TRANSACTION("DELETE /api/transactions/{id}", 10),
+        LIST_CATEGORIES("GET /api/categories", 15);
+
+        private final String endpoint;
+        private final int weight;
+
+        Operation(String endpoint, int weight) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+        }
+    }
+
+    private record SeededUser(String email, List<Long> categoryIds) {
+    }
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private String baseUrl;
+    private volatile boolean measuring;
+    private volatile long stopAtNanos;
+
+    LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        // Devtools would otherwise restart main() with the Spring arguments below
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(FinanceTrackerApplication.class)
+                .run("--spring.profiles.active=h2", "--server.port=0", "--logging.level.root=WARN",
+                        "--rate-limit.enabled=" + config.rateLimits());
+        try {
+            new LoadTestRunner(config).run(context);
+        } finally {
+            context.close();
+        }
+    }
+
+    void run(ConfigurableApplicationContext context) throws Exception {
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        long seedStart = System.nanoTime();
+        List<SeededUser> users = seed(context);
+        double seedSeconds = (System.nanoTime() - seedStart) / 1e9;
+        System.out.printf("Seeded %d users with %d categories and %d transactions each in %.1fs%n",
+                users.size(), config.categoriesPerUser(), config.transactionsPerUser(), seedSeconds);
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        List<Map<Operation, LatencyRecorder>> perWorker = new ArrayList<>();
+        double measuredSeconds;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            stopAtNanos = System.nanoTime() + config.warmup().plus(config.duration()).toNanos();
+            for (int i = 0; i < config.concurrency(); i++) {
+                Map<Operation, LatencyRecorder> recorders = new LinkedHashMap<>();
+                for (Operation operation : Operation.values()) {
+                    recorders.put(operation, new LatencyRecorder());
+                }
+                perWorker.add(recorders);
+                SeededUser user = users.get(i % users.size());
+                Random random = new Random(config.seed() + i);
+                futures.add(workers.submit(() -> drive(user, random, recorders)));
+            }
+
+            Thread.sleep(config.warmup().toMillis());
+            measuring = true;
+            long measureStart = System.nanoTime();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            measuredSeconds = (System.nanoTime() - measureStart) / 1e9;
+        } finally {
+            workers.shutdownNow();
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        writeReport(perWorker, measuredSeconds);
+    }
+
+    // Seeds through repositories and the batch writer, hashing the shared password only once
+    private List<SeededUser> seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        CategoryRepository categoryRepository = context.getBean(CategoryRepository.class);
+        TransactionBatchWriter batchWriter = context.getBean(TransactionBatchWriter.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        Random random = new Random(config.seed());
+
+        List<SeededUser> users = new ArrayList<>();
+        for (int u = 0; u < config.users(); u++) {
+            User user = new User();
+            user.setEmail("loadtest-" + u + "@example.com");
+            user.setName("Load Test User " + u);
+            user.setPassword(passwordHash);
+            userRepository.save(user);
+
+            List<Category> categories = new ArrayList<>();
+            for (int c = 0; c < config.categoriesPerUser(); c++) {
+                Category category = new Category();
+                category.setName("Category " + c);
+                category.setUser(user);
+                categories.add(categoryRepository.save(category));
+            }
+
+            List<Transaction> batch = new ArrayList<>();
+            for (int t = 0; t < config.transactionsPerUser(); t++) {
+                Transaction transaction = new Transaction();
+                transaction.setAmount(BigDecimal.valueOf(100 + random.nextInt(100_000), 2));
+                transaction.setType(random.nextInt(4) == 0 ? TransactionType.INCOME : TransactionType.EXPENSE);
+                transaction.setDescription("Seeded " + t);
+                transaction.setDate(LocalDate.now().minusDays(random.nextInt(730)));
+                transaction.setCategory(categories.get(random.nextInt(categories.size())));
+                batch.add(transaction);
+                if (batch.size() == 500) {
+                    batchWriter.write(user.getId(), batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchWriter.write(user.getId(), batch);
+            }
+            users.add(new SeededUser(user.getEmail(), categories.stream().map(Category::getId).toList()));
+        }
+        return users;
+    }
+
+    private void drive(SeededUser user, Random random, Map<Operation, LatencyRecorder> recorders) {
+        Deque<Long> ownTransactions = new ArrayDeque<>();
+        String token = login(user);
+        while (System.nanoTime() < stopAtNanos) {
+            Operation operation = pick(random);
+            // Updates and deletes only touch rows this worker created, so seeded data stays intact
+            if ((operation == Operation.UPDATE_TRANSACTION || operation == Operation.DELETE_TRANSACTION)
+                    && ownTransactions.isEmpty()) {
+                operation = Operation.CREATE_TRANSACTION;
+            }
+            LatencyRecorder recorder = measuring ? recorders.get(operation) : null;
+            switch (operation) {
+                case LOGIN -> {
+                    // A rejected login keeps the current token
+                    JsonNode response = send(loginRequest(user), null, recorder);
+                    if (response != null) {
+                        token = response.get("token").asText();
+                    }
+                }
+                case LIST_TRANSACTIONS -> {
+                    String query = "?page=" + random.nextInt(5) + "&size=20&sort=date,desc"
+                            + (random.nextBoolean() ? "&type=EXPENSE" : "");
+                    send(HttpRequest.newBuilder(uri("/api/transactions" + query)).GET(), token, recorder);
+                }
+                case CREATE_TRANSACTION -> {
+                    JsonNode created = send(withJson(uri("/api/transactions"), "POST", transactionBody(user, random)), token, recorder);
+                    if (created != null) {
+                        ownTransactions.push(created.get("id").asLong());
+                    }
+                }
+                case UPDATE_TRANSACTION -> send(withJson(uri("/api/transactions/" + ownTransactions.peek()), "PUT",
+                        transactionBody(user, random)), token, recorder);
+                case DELETE_TRANSACTION -> send(HttpRequest.newBuilder(uri("/api/transactions/" + ownTransactions.pop()))
+                        .DELETE(), token, recorder);
+                case LIST_CATEGORIES -> send(HttpRequest.newBuilder(uri("/api/categories")).GET(), token, recorder);
+            }
+        }
+    }
+
+    private String login(SeededUser user) {
+        JsonNode response = send(loginRequest(user), null, null);
+        if (response == null) {
+            throw new IllegalStateException("Login failed for " + user.email());
+        }
+        return response.get("token").asText();
+    }
+
+    private HttpRequest.Builder loginRequest(SeededUser user) {
+        String body = "{\"email\":\"" + user.email() + "\",\"password\":\"" + PASSWORD + "\"}";
+        return withJson(uri("/api/auth/login"), "POST", body);
+    }
+
+    private String transactionBody(SeededUser user, Random random) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("amount", BigDecimal.valueOf(100 + random.nextInt(100_000), 2));
+        body.put("type", random.nextInt(4) == 0 ? "INCOME" : "EXPENSE");
+        body.put("description", "Load test");
+        body.put("date", LocalDate.now().minusDays(random.nextInt(365)).toString());
+        body.put("categoryId", user.categoryIds().get(random.nextInt(user.categoryIds().size())));
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Returns the parsed body of a 2xx response, or null on failure; records latency when measuring
+    private JsonNode send(HttpRequest.Builder builder, String token, LatencyRecorder recorder) {
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        long start = System.nanoTime();
+        boolean success = false;
+        JsonNode body = null;
+        try {
+            HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 429 || response.statusCode() == 503) {
+                if (recorder != null) {
+                    recorder.rejected();
+                }
+                return null;
+            }
+            success = response.statusCode() / 100 == 2;
+            if (success && !response.body().isEmpty()) {
+                body = objectMapper.readTree(response.body());
+            }
+        } catch (IOException e) {
+            // Counted as an error below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (recorder != null) {
+            recorder.record(System.nanoTime() - start, success);
+        }
+        return success ? body : null;
+    }
+
+    private Operation pick(Random random) {
+        int roll = random.nextInt(100);
+        for (Operation operation : Operation.values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return Operation.LIST_TRANSACTIONS;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static HttpRequest.Builder withJson(URI uri, String method, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private void writeReport(List<Map<Operation, LatencyRecorder>> perWorker, double measuredSeconds) throws IOException {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        LatencyRecorder total = new LatencyRecorder();
+        for (Operation operation : Operation.values()) {
+            LatencyRecorder merged = new LatencyRecorder();
+            for (Map<Operation, LatencyRecorder> recorders : perWorker) {
+                merged.merge(recorders.get(operation));
+            }
+            total.merge(merged);
+            endpoints.put(operation.endpoint, merged.summary(measuredSeconds));
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("users", config.users());
+        settings.put("categoriesPerUser", config.categoriesPerUser());
+        settings.put("transactionsPerUser", config.transactionsPerUser());
+        settings.put("concurrency", config.concurrency());
+        settings.put("warmupSeconds", config.warmup().toSeconds());
+        settings.put("durationSeconds", config.duration().toSeconds());
+        settings.put("seed", config.seed());
+        settings.put("rateLimits", config.rateLimits());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("config", settings);
+        report.put("measuredSeconds", Math.round(measuredSeconds * 1000) / 1000.0);
+        report.put("total", total.summary(measuredSeconds));
+        report.put("endpoints", endpoints);
+
+        if (config.report().getParent() != null) {
+            Files.createDirectories(config.report().getParent());
+        }
+        String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        Files.writeString(config.report(), json);
+        System.out.println(json);
+        System.out.println("Report written to " + config.report().toAbsolutePath());
+    }
+}
@@ -0,0 +1,78 @@
+package com.yogendra.finance_tracker.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Per-request SQL statement and entity load counts, recorded as distribution summaries tagged
+ * with the matched URI template. Factory-wide totals come from the Hibernate statistics binder
+ * ({@code hibernate.generate_statistics}).
+ */
+@Configuration
+public class PersistenceMetricsConfig {
+
+    @Bean
+    public RequestPersistenceCounter requestPersistenceCounter() {
+        return new RequestPersistenceCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestPersistenceCounterCustomizer(RequestPersistenceCounter counter) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+            properties.put(AvailableSettings.INTERCEPTOR, counter);
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> requestPersistenceMetricsFilter(
+            RequestPersistenceCounter counter, MeterRegistry meterRegistry) {
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain filterChain) throws ServletException, IOException {
+                counter.begin();
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    // Only work on the request thread is counted; streamed export bodies run later
+                    RequestPersistenceCounter.Counts counts = counter.end();
+                    if (counts != null) {
+                        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+                        summary(meterRegistry, "hibernate.request.statements", "SQL statements per request",
+                                request.getMethod(), uri).record(counts.getStatements());
+                        summary(meterRegistry, "hibernate.request.entity.loads", "Entities loaded per request",
+                                request.getMethod(), uri).record(counts.getEntityLoads());
+                    }
+                }
+            }
+        };
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    private static DistributionSummary summary(MeterRegistry meterRegistry, String name, String description,
+                                               String method, String uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.yogendra.finance_tracker.config;
+
+import com.yogendra.finance_tracker.service.RecurringTransactionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.LocalDate;
+
+/**
+ * Periodically posts due recurring transactions. After downtime the first run catches up on
+ * everything missed. Disable with {@code recurring.scheduler.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recurring.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class RecurringTransactionScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringTransactionScheduler.class);
+
+    private final RecurringTransactionService recurringTransactionService;
+
+    @Autowired
+    public RecurringTransactionScheduler(RecurringTransactionService recurringTransactionService) {
+        this.recurringTransactionService = recurringTransactionService;
+    }
+
+    @Scheduled(initialDelayString = "${recurring.scheduler.initial-delay:PT1M}",
+            fixedDelayString = "${recurring.scheduler.interval:PT1H}")
+    public void postDueTransactions() {
+        long posted = recurringTransactionService.materializeDue(LocalDate.now());
+        if (posted > 0) {
+            logger.info("Posted {} recurring transactions", posted);
+        }
+    }
+}
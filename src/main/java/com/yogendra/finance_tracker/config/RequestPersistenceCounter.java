@@ -0,0 +1,57 @@
+package com.yogendra.finance_tracker.config;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Counts the SQL statements prepared and entities loaded on the current thread between
+ * {@link #begin()} and {@link #end()}. Hibernate's own statistics are factory-wide totals,
+ * so they cannot attribute work to a single request.
+ */
+public class RequestPersistenceCounter implements StatementInspector, Interceptor {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    public void begin() {
+        CURRENT.set(new Counts());
+    }
+
+    // Returns null when begin() was not called on this thread
+    public Counts end() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+        return false;
+    }
+
+    public static class Counts {
+        private long statements;
+        private long entityLoads;
+
+        public long getStatements() {
+            return statements;
+        }
+
+        public long getEntityLoads() {
+            return entityLoads;
+        }
+    }
+}
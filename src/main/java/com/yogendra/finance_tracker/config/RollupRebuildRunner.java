@@ -0,0 +1,48 @@
+package com.yogendra.finance_tracker.config;
+
+import com.yogendra.finance_tracker.dto.RollupRebuildResponse;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.service.MonthlyRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verifies and repairs monthly rollups for every user when the application is started with
+ * {@code --rebuild-rollups}. Add {@code --dry-run} to only report mismatches.
+ */
+@Component
+public class RollupRebuildRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(RollupRebuildRunner.class);
+
+    private final UserRepository userRepository;
+    private final MonthlyRollupService rollupService;
+
+    @Autowired
+    public RollupRebuildRunner(UserRepository userRepository, MonthlyRollupService rollupService) {
+        this.userRepository = userRepository;
+        this.rollupService = rollupService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption("rebuild-rollups")) {
+            return;
+        }
+        boolean dryRun = args.containsOption("dry-run");
+        int users = 0;
+        int mismatches = 0;
+        for (User user : userRepository.findAll()) {
+            // One transaction per user, through the service proxy
+            RollupRebuildResponse result = rollupService.rebuild(user.getId(), dryRun);
+            users++;
+            mismatches += result.getMismatches();
+        }
+        logger.info("Rollup {} finished for {} users, {} mismatching rows", dryRun ? "verification" : "rebuild", users, mismatches);
+    }
+}
@@ -0,0 +1,10 @@
+package com.yogendra.finance_tracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Background jobs: recurring transactions and purging expired idempotency records
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,71 @@
+package com.yogendra.finance_tracker.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * JDBC admission control for the virtual-thread execution mode, enabled together with
+ * {@code spring.threads.virtual.enabled} (see the {@code virtual-threads} profile).
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    // Static so the post-processor does not force early initialization of this configuration
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                // Defaults to the pool size less the connections reserved for nested checkouts (id
+                // generator, REQUIRES_NEW), so waiting happens on the semaphore rather than inside the pool
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int reserved = environment.getProperty("jdbc.connection-limit.reserved", Integer.class, 2);
+                int maxConcurrent = environment.getProperty("jdbc.connection-limit.max-concurrent", Integer.class,
+                        Math.max(1, poolSize - reserved));
+                if (maxConcurrent >= poolSize) {
+                    logger.warn("Connection limit {} leaves none of the {} pooled connections for nested checkouts; "
+                            + "id allocation may wait for the pool", maxConcurrent, poolSize);
+                }
+                Duration acquireTimeout = environment.getProperty("jdbc.connection-limit.acquire-timeout", Duration.class,
+                        Duration.ofSeconds(5));
+                logger.info("Limiting data source '{}' to {} concurrent connections (acquire timeout {})",
+                        beanName, maxConcurrent, acquireTimeout);
+                return new ConnectionLimitingDataSource(dataSource, maxConcurrent, acquireTimeout);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimitMetrics(DataSource dataSource) throws SQLException {
+        ConnectionLimitingDataSource limiter = dataSource.unwrap(ConnectionLimitingDataSource.class);
+        return registry -> {
+            Gauge.builder("jdbc.connection.limit.available", limiter, ConnectionLimitingDataSource::availablePermits)
+                    .description("Connection permits not currently held")
+                    .register(registry);
+            Gauge.builder("jdbc.connection.limit.waiting", limiter, ConnectionLimitingDataSource::queueLength)
+                    .description("Threads waiting for a connection permit")
+                    .register(registry);
+            FunctionCounter.builder("jdbc.connection.limit.timeouts", limiter, ConnectionLimitingDataSource::timeoutCount)
+                    .description("Permit requests that failed after the acquire timeout")
+                    .register(registry);
+        };
+    }
+}
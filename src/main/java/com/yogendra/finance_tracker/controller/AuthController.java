@@ -3,6 +3,7 @@ package com.yogendra.finance_tracker.controller;
 import com.yogendra.finance_tracker.dto.AuthRequest;
 import com.yogendra.finance_tracker.dto.AuthResponse;
 import com.yogendra.finance_tracker.security.JwtTokenProvider;
+import com.yogendra.finance_tracker.security.UserPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -33,8 +34,9 @@ public class AuthController {
                     new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
             );
 
-            // Generate JWT token using authenticated principal's username
-            String token = jwtTokenProvider.generateToken(authentication.getName());
+            // Generate JWT token using authenticated principal's username and id
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            String token = jwtTokenProvider.generateToken(principal.getUsername(), principal.getId());
 
             // Return the token in the response
             return ResponseEntity.ok(new AuthResponse(token));
@@ -0,0 +1,78 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.dto.BalanceResponse;
+import com.yogendra.finance_tracker.dto.CategoryBalanceResponse;
+import com.yogendra.finance_tracker.dto.RollupRebuildResponse;
+import com.yogendra.finance_tracker.security.AuthenticatedUserResolver;
+import com.yogendra.finance_tracker.service.BalanceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Balance", description = "Current all-time balance, maintained on every write")
+@RestController
+@RequestMapping("/api/balance")
+public class BalanceController {
+
+    private final BalanceService balanceService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    @Autowired
+    public BalanceController(BalanceService balanceService, AuthenticatedUserResolver authenticatedUserResolver) {
+        this.balanceService = balanceService;
+        this.authenticatedUserResolver = authenticatedUserResolver;
+    }
+
+    @Operation(
+            summary = "Get the current balance",
+            description = "Returns the authenticated user's all-time income, expense and balance (income - expense), read from a single maintained row."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<BalanceResponse> getBalance(Authentication authentication) {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        return ResponseEntity.ok(balanceService.getBalance(userId));
+    }
+
+    @Operation(
+            summary = "Get the current balance per category",
+            description = "Returns the authenticated user's all-time totals and balance for each category."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @GetMapping("/by-category")
+    public ResponseEntity<List<CategoryBalanceResponse>> getCategoryBalances(Authentication authentication) {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        return ResponseEntity.ok(balanceService.getCategoryBalances(userId));
+    }
+
+    @Operation(
+            summary = "Verify and rebuild balances",
+            description = "Recomputes the authenticated user's balances from raw transactions and repairs any mismatch. With dryRun=true only reports mismatches."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @PostMapping("/rebuild")
+    public ResponseEntity<RollupRebuildResponse> rebuildBalances(
+            Authentication authentication,
+            @Parameter(description = "Only report mismatches") @RequestParam(defaultValue = "false") boolean dryRun) {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        return ResponseEntity.ok(balanceService.rebuild(userId, dryRun));
+    }
+}
@@ -1,19 +1,23 @@
 package com.yogendra.finance_tracker.controller;
 
+import com.yogendra.finance_tracker.dto.BudgetStatusResponse;
 import com.yogendra.finance_tracker.dto.CategoryRequest;
 import com.yogendra.finance_tracker.dto.CategoryResponse;
 import com.yogendra.finance_tracker.model.Category;
-import com.yogendra.finance_tracker.model.User;
-import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.security.AuthenticatedUserResolver;
 import com.yogendra.finance_tracker.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.YearMonth;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,19 +27,20 @@ import java.util.stream.Collectors;
 public class CategoryController {
 
     private final CategoryService categoryService;
-    private final UserRepository userRepository;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+    private final ListingETags listingETags;
 
     @Autowired
-    public CategoryController(CategoryService categoryService, UserRepository userRepository) {
+    public CategoryController(CategoryService categoryService, AuthenticatedUserResolver authenticatedUserResolver,
+                              ListingETags listingETags) {
         this.categoryService = categoryService;
-        this.userRepository = userRepository;
+        this.authenticatedUserResolver = authenticatedUserResolver;
+        this.listingETags = listingETags;
     }
 
+    // Helper method to get userId from Authentication
     private Long getUserId(Authentication authentication) {
-        String username = authentication.getName();
-        User user = userRepository.findByEmail(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getId();
+        return authenticatedUserResolver.getUserId(authentication);
     }
 
     @Operation(summary = "Create a new category")
@@ -50,8 +55,12 @@ public class CategoryController {
 
     @Operation(summary = "Get all categories for the authenticated user")
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getCategories(Authentication authentication) {
+    public ResponseEntity<List<CategoryResponse>> getCategories(Authentication authentication,
+                                                                ServletWebRequest webRequest) {
         Long userId = getUserId(authentication);
+        if (listingETags.checkNotModified(userId, webRequest)) {
+            return null;
+        }
         List<Category> categories = categoryService.getCategoriesByUserId(userId);
         List<CategoryResponse> responses = categories.stream()
                 .map(CategoryResponse::fromEntity)
@@ -59,6 +68,18 @@ public class CategoryController {
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(
+            summary = "Get budget status",
+            description = "Returns spend versus monthly budget for every category of the authenticated user. Defaults to the current month."
+    )
+    @GetMapping("/budgets")
+    public ResponseEntity<List<BudgetStatusResponse>> getBudgetStatus(
+            Authentication authentication,
+            @Parameter(description = "Month (yyyy-MM)") @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        Long userId = getUserId(authentication);
+        return ResponseEntity.ok(categoryService.getBudgetStatus(userId, month != null ? month : YearMonth.now()));
+    }
+
     @Operation(summary = "Get a category by ID (if owned by user)")
     @GetMapping("/{id}")
     public ResponseEntity<CategoryResponse> getCategoryById(
@@ -0,0 +1,89 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yogendra.finance_tracker.dto.ErrorResponse;
+import com.yogendra.finance_tracker.security.Sha256;
+import com.yogendra.finance_tracker.service.IdempotencyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Applies the {@code Idempotency-Key} header to a write endpoint. A retry is answered from the
+ * stored response before the endpoint runs, so none of its lookups or writes are repeated.
+ */
+@Component
+public class IdempotentRequests {
+
+    public static final String HEADER = "Idempotency-Key";
+    // Set on responses served from the store rather than produced by this request
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public IdempotentRequests(IdempotencyService idempotencyService, ObjectMapper objectMapper) {
+        this.idempotencyService = idempotencyService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Runs {@code endpoint} unless a response for the key is stored; without a key it just runs it.
+     *
+     * @param request the request body, whose JSON form identifies the request behind a key
+     */
+    public ResponseEntity<?> execute(String key, Long userId, Object request, Supplier<ResponseEntity<?>> endpoint) {
+        if (key == null) {
+            return endpoint.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters"));
+        }
+        AtomicReference<ResponseEntity<?>> produced = new AtomicReference<>();
+        IdempotencyService.StoredResponse stored = idempotencyService.execute(userId, key, hash(request), () -> {
+            ResponseEntity<?> response = endpoint.get();
+            produced.set(response);
+            return toStored(response);
+        });
+        if (produced.get() != null) {
+            return produced.get();
+        }
+        ResponseEntity.BodyBuilder replay = ResponseEntity.status(stored.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(REPLAYED_HEADER, "true");
+        if (stored.location() != null) {
+            replay.location(URI.create(stored.location()));
+        }
+        return replay.body(stored.body());
+    }
+
+    private IdempotencyService.StoredResponse toStored(ResponseEntity<?> response) {
+        URI location = response.getHeaders().getLocation();
+        return new IdempotencyService.StoredResponse(response.getStatusCode().value(),
+                location != null ? location.toString() : null,
+                response.getBody() != null ? json(response.getBody()) : null);
+    }
+
+    private String hash(Object request) {
+        return HexFormat.of().formatHex(Sha256.hash(json(request).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.security.Sha256;
+import com.yogendra.finance_tracker.service.DataVersionService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Conditional GET for listings. The strong ETag combines the caller's data version with the
+ * request parameters, so a matching {@code If-None-Match} is answered with 304 after a single
+ * read of {@code users.data_version}, before the listing query runs.
+ */
+@Component
+public class ListingETags {
+
+    private final DataVersionService dataVersionService;
+
+    @Autowired
+    public ListingETags(DataVersionService dataVersionService) {
+        this.dataVersionService = dataVersionService;
+    }
+
+    /**
+     * Sets the ETag and caching headers and returns true when the client's copy is current;
+     * the handler must then return {@code null}, leaving a bodiless 304.
+     */
+    public boolean checkNotModified(Long userId, ServletWebRequest request) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            // Per-user content that clients may keep but must revalidate on every use
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        }
+        String etag = "\"" + dataVersionService.currentVersion(userId)
+                + "-" + parametersDigest(request) + "\"";
+        return request.checkNotModified(etag);
+    }
+
+    /**
+     * First 64 bits of a SHA-256 over the parameters sorted by name, so reordered parameters
+     * still match. Values of a repeated parameter keep their order, which matters for sorts.
+     * Every string is length-prefixed, so no two parameter sets feed the same bytes.
+     */
+    private static String parametersDigest(ServletWebRequest request) {
+        MessageDigest digest = Sha256.newDigest();
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            update(digest, parameter.getKey());
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(parameter.getValue().length).array());
+            for (String value : parameter.getValue()) {
+                update(digest, value);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, Long.BYTES);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+}
@@ -0,0 +1,95 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.dto.RecurringTransactionRequest;
+import com.yogendra.finance_tracker.dto.RecurringTransactionResponse;
+import com.yogendra.finance_tracker.model.RecurringTransaction;
+import com.yogendra.finance_tracker.security.AuthenticatedUserResolver;
+import com.yogendra.finance_tracker.service.RecurringTransactionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Recurring Transactions", description = "Templates for transactions that repeat on a schedule")
+@RestController
+@RequestMapping("/api/recurring-transactions")
+public class RecurringTransactionController {
+
+    private final RecurringTransactionService recurringTransactionService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    @Autowired
+    public RecurringTransactionController(RecurringTransactionService recurringTransactionService,
+                                          AuthenticatedUserResolver authenticatedUserResolver) {
+        this.recurringTransactionService = recurringTransactionService;
+        this.authenticatedUserResolver = authenticatedUserResolver;
+    }
+
+    private Long getUserId(Authentication authentication) {
+        return authenticatedUserResolver.getUserId(authentication);
+    }
+
+    @Operation(
+            summary = "Create a recurring transaction",
+            description = "Occurrences from the start date up to today are posted immediately; later ones are posted by the scheduler as they fall due."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Recurring transaction created", content = @Content(schema = @Schema(implementation = RecurringTransactionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Category not found", content = @Content)
+    })
+    @PostMapping
+    public ResponseEntity<RecurringTransactionResponse> createRecurringTransaction(
+            @Valid @RequestBody RecurringTransactionRequest request,
+            Authentication authentication) {
+        Long userId = getUserId(authentication);
+        RecurringTransaction created = recurringTransactionService.createRecurringTransaction(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(RecurringTransactionResponse.fromEntity(created));
+    }
+
+    @Operation(summary = "Get all recurring transactions for the authenticated user")
+    @GetMapping
+    public ResponseEntity<List<RecurringTransactionResponse>> getRecurringTransactions(Authentication authentication) {
+        Long userId = getUserId(authentication);
+        List<RecurringTransactionResponse> responses = recurringTransactionService.getRecurringTransactions(userId).stream()
+                .map(RecurringTransactionResponse::fromEntity)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    @Operation(summary = "Get a recurring transaction by ID (if owned by user)")
+    @GetMapping("/{id}")
+    public ResponseEntity<RecurringTransactionResponse> getRecurringTransaction(
+            @Parameter(description = "Recurring transaction ID") @PathVariable Long id,
+            Authentication authentication) {
+        Long userId = getUserId(authentication);
+        return recurringTransactionService.getRecurringTransaction(id, userId)
+                .map(RecurringTransactionResponse::fromEntity)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Delete a recurring transaction (if owned by user)",
+            description = "Stops the schedule. Transactions already posted are kept."
+    )
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRecurringTransaction(
+            @Parameter(description = "Recurring transaction ID") @PathVariable Long id,
+            Authentication authentication) {
+        Long userId = getUserId(authentication);
+        recurringTransactionService.deleteRecurringTransaction(id, userId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.dto.BulkOperationResponse;
+import com.yogendra.finance_tracker.dto.BulkTransactionRequest;
+import com.yogendra.finance_tracker.dto.ErrorResponse;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.security.AuthenticatedUserResolver;
+import com.yogendra.finance_tracker.service.CategoryService;
+import com.yogendra.finance_tracker.service.TransactionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@Tag(name = "Transaction Bulk Operations", description = "Set-based updates and deletes of transactions")
+@RestController
+@RequestMapping("/api/transactions/bulk")
+public class TransactionBulkController {
+
+    private final TransactionService transactionService;
+    private final CategoryService categoryService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    @Autowired
+    public TransactionBulkController(TransactionService transactionService, CategoryService categoryService,
+                                     AuthenticatedUserResolver authenticatedUserResolver) {
+        this.transactionService = transactionService;
+        this.categoryService = categoryService;
+        this.authenticatedUserResolver = authenticatedUserResolver;
+    }
+
+    @Operation(
+            summary = "Delete transactions by ID",
+            description = "Deletes the listed transactions in one statement. IDs that do not exist or belong to another user are skipped; "
+                    + "the response reports how many rows were deleted."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions deleted", content = @Content(schema = @Schema(implementation = BulkOperationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No IDs or too many IDs", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @PostMapping("/delete")
+    public ResponseEntity<BulkOperationResponse> deleteTransactions(
+            @Valid @RequestBody BulkTransactionRequest request,
+            Authentication authentication) {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        int deleted = transactionService.deleteTransactions(request.getIds(), userId);
+        return ResponseEntity.ok(new BulkOperationResponse(deleted));
+    }
+
+    @Operation(
+            summary = "Delete transactions by filter",
+            description = "Deletes all of the user's transactions matching the filters in one statement. At least one filter is required."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions deleted", content = @Content(schema = @Schema(implementation = BulkOperationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No filter given", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @PostMapping("/delete-by-filter")
+    public ResponseEntity<?> deleteTransactionsWithFilters(
+            Authentication authentication,
+            @Parameter(description = "Transaction type: INCOME or EXPENSE") @RequestParam(required = false) TransactionType type,
+            @Parameter(description = "Category ID") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "Start date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        // Guards against wiping the whole history because of a misspelled parameter
+        if (type == null && categoryId == null && startDate == null && endDate == null) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("At least one filter is required"));
+        }
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        int deleted = transactionService.deleteTransactionsWithFilters(userId, type, categoryId, startDate, endDate);
+        return ResponseEntity.ok(new BulkOperationResponse(deleted));
+    }
+
+    @Operation(
+            summary = "Move transactions to a category",
+            description = "Re-categorises the listed transactions in one statement. IDs that do not exist or belong to another user are skipped; "
+                    + "the response reports how many rows were updated."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Transactions moved", content = @Content(schema = @Schema(implementation = BulkOperationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No IDs or too many IDs", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Category not found", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @PostMapping("/move")
+    public ResponseEntity<?> moveTransactions(
+            @Valid @RequestBody BulkTransactionRequest request,
+            Authentication authentication) {
+        if (request.getCategoryId() == null) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("Category ID is required"));
+        }
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+
+        // Category ownership check
+        Category category = categoryService.getCategoryByIdAndUserId(request.getCategoryId(), userId)
+                .orElseThrow(() -> new IllegalArgumentException("Category not found or does not belong to user"));
+        int moved = transactionService.moveTransactions(request.getIds(), category, userId);
+        return ResponseEntity.ok(new BulkOperationResponse(moved));
+    }
+}
@@ -1,13 +1,17 @@
 package com.yogendra.finance_tracker.controller;
 
+import com.yogendra.finance_tracker.dto.CursorPageResponse;
+import com.yogendra.finance_tracker.dto.ErrorResponse;
+import com.yogendra.finance_tracker.dto.IngestionStatusResponse;
+import com.yogendra.finance_tracker.dto.TransactionCursor;
 import com.yogendra.finance_tracker.dto.TransactionRequest;
 import com.yogendra.finance_tracker.dto.TransactionResponse;
 import com.yogendra.finance_tracker.model.Category;
 import com.yogendra.finance_tracker.model.Transaction;
 import com.yogendra.finance_tracker.model.TransactionType;
-import com.yogendra.finance_tracker.model.User;
-import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.security.AuthenticatedUserResolver;
 import com.yogendra.finance_tracker.service.CategoryService;
+import com.yogendra.finance_tracker.service.TransactionIngestionService;
 import com.yogendra.finance_tracker.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,11 +25,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.Optional;
 
@@ -34,23 +41,30 @@ import java.util.Optional;
 @RequestMapping("/api/transactions")
 public class TransactionController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final TransactionService transactionService;
     private final CategoryService categoryService;
-    private final UserRepository userRepository;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+    private final ListingETags listingETags;
+    private final TransactionIngestionService ingestionService;
+    private final IdempotentRequests idempotentRequests;
 
     @Autowired
-    public TransactionController(TransactionService transactionService, CategoryService categoryService, UserRepository userRepository) {
+    public TransactionController(TransactionService transactionService, CategoryService categoryService,
+                                 AuthenticatedUserResolver authenticatedUserResolver, ListingETags listingETags,
+                                 TransactionIngestionService ingestionService, IdempotentRequests idempotentRequests) {
         this.transactionService = transactionService;
         this.categoryService = categoryService;
-        this.userRepository = userRepository;
+        this.authenticatedUserResolver = authenticatedUserResolver;
+        this.listingETags = listingETags;
+        this.ingestionService = ingestionService;
+        this.idempotentRequests = idempotentRequests;
     }
 
     // Helper method to get userId from Authentication
     private Long getUserId(Authentication authentication) {
-        String username = authentication.getName(); // assuming username is unique
-        User user = userRepository.findByEmail(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return user.getId();
+        return authenticatedUserResolver.getUserId(authentication);
     }
 
     @Operation(
@@ -59,11 +73,13 @@ public class TransactionController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
     @GetMapping
     public ResponseEntity<Page<TransactionResponse>> getTransactions(
             Authentication authentication,
+            ServletWebRequest webRequest,
             @Parameter(description = "Transaction type: INCOME or EXPENSE") @RequestParam(required = false) TransactionType type,
             @Parameter(description = "Category ID") @RequestParam(required = false) Long categoryId,
             @Parameter(description = "Start date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
@@ -71,29 +87,77 @@ public class TransactionController {
             Pageable pageable
     ) {
         Long userId = getUserId(authentication);
-        Page<Transaction> page = transactionService.getTransactionsWithFilters(
+        if (listingETags.checkNotModified(userId, webRequest)) {
+            return null;
+        }
+        Page<TransactionResponse> page = transactionService.getTransactionsWithFilters(
                 userId, type, categoryId, startDate, endDate, pageable
         );
-        Page<TransactionResponse> dtoPage = page.map(TransactionResponse::fromEntity);
-        return ResponseEntity.ok(dtoPage);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(
+            summary = "Get transactions by cursor",
+            description = "Keyset-paginated variant of the listing, selected by the cursor parameter. Pass an empty cursor for the first page "
+                    + "and the returned nextCursor for the following ones. Rows are ordered newest first and no total count is computed."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<TransactionResponse>> getTransactionsByCursor(
+            Authentication authentication,
+            ServletWebRequest webRequest,
+            @Parameter(description = "Continuation token from the previous page; empty for the first page") @RequestParam String cursor,
+            @Parameter(description = "Page size (max 1000)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Transaction type: INCOME or EXPENSE") @RequestParam(required = false) TransactionType type,
+            @Parameter(description = "Category ID") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "Start date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        Long userId = getUserId(authentication);
+        if (listingETags.checkNotModified(userId, webRequest)) {
+            return null;
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        TransactionCursor position = cursor.isEmpty() ? null : TransactionCursor.decode(cursor);
+        CursorPageResponse<TransactionResponse> page = transactionService.scrollTransactionsWithFilters(
+                userId, type, categoryId, startDate, endDate, position, pageSize
+        );
+        return ResponseEntity.ok(page);
     }
 
     @Operation(
             summary = "Create a new transaction",
-            description = "Creates a new transaction for the authenticated user."
+            description = "Creates a new transaction for the authenticated user. With the header Prefer: respond-async the "
+                    + "validated transaction is queued and written in the background; the 202 response carries a tracking id "
+                    + "whose status is at the Location URL. The header is ignored when asynchronous ingestion is disabled. "
+                    + "Retries that repeat the Idempotency-Key of an earlier successful request get its stored response "
+                    + "(marked Idempotent-Replayed) and create nothing."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Transaction created", content = @Content(schema = @Schema(implementation = TransactionResponse.class))),
+            @ApiResponse(responseCode = "202", description = "Transaction queued", content = @Content(schema = @Schema(implementation = IngestionStatusResponse.class))),
             @ApiResponse(responseCode = "400", description = "Validation error", content = @Content),
             @ApiResponse(responseCode = "404", description = "Category not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still running", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key reused with a different request", content = @Content),
+            @ApiResponse(responseCode = "429", description = "Ingestion queue full; retry later", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
     @PostMapping
-    public ResponseEntity<TransactionResponse> createTransaction(
+    public ResponseEntity<?> createTransaction(
             @Valid @RequestBody TransactionRequest request,
+            @Parameter(description = "respond-async to queue the transaction") @RequestHeader(value = "Prefer", required = false) String prefer,
+            @Parameter(description = "Client-chosen key that makes retries of this request safe") @RequestHeader(value = IdempotentRequests.HEADER, required = false) String idempotencyKey,
             Authentication authentication) {
         Long userId = getUserId(authentication);
+        return idempotentRequests.execute(idempotencyKey, userId, request, () -> create(request, prefer, userId));
+    }
 
+    private ResponseEntity<?> create(TransactionRequest request, String prefer, Long userId) {
         // Map TransactionRequest to Transaction entity
         Transaction transaction = new Transaction();
         transaction.setAmount(request.getAmount());
@@ -106,6 +170,16 @@ public class TransactionController {
                 .orElseThrow(() -> new IllegalArgumentException("Category not found or does not belong to user"));
         transaction.setCategory(category);
 
+        if (prefer != null && prefer.contains("respond-async") && ingestionService.isAccepting()) {
+            return ingestionService.submit(transaction, userId)
+                    .<ResponseEntity<?>>map(status -> ResponseEntity.accepted()
+                            .location(URI.create("/api/transactions/ingestion/" + status.getTrackingId()))
+                            .body(status))
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                            .header(HttpHeaders.RETRY_AFTER, "1")
+                            .body(new ErrorResponse("Too many pending transactions, retry later")));
+        }
+
         // Create transaction with userId
         Transaction created = transactionService.createTransaction(transaction, userId);
 
@@ -129,9 +203,9 @@ public class TransactionController {
             @Parameter(description = "Transaction ID") @PathVariable Long id,
             Authentication authentication) {
         Long userId = getUserId(authentication);
-        Optional<Transaction> transaction = transactionService.getTransactionById(id, userId);
+        Optional<TransactionResponse> transaction = transactionService.getTransactionById(id, userId);
         return transaction
-                .map(tx -> ResponseEntity.ok(TransactionResponse.fromEntity(tx)))
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -0,0 +1,70 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.dto.TransactionFileFormat;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.security.AuthenticatedUserResolver;
+import com.yogendra.finance_tracker.service.TransactionExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@Tag(name = "Transaction Export", description = "Bulk export of transactions")
+@RestController
+@RequestMapping("/api/transactions/export")
+public class TransactionExportController {
+
+    private final TransactionExportService exportService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    @Autowired
+    public TransactionExportController(TransactionExportService exportService,
+                                       AuthenticatedUserResolver authenticatedUserResolver) {
+        this.exportService = exportService;
+        this.authenticatedUserResolver = authenticatedUserResolver;
+    }
+
+    @Operation(
+            summary = "Export transactions",
+            description = "Streams all of the authenticated user's transactions, newest first, as CSV or NDJSON. "
+                    + "Accepts the same filters as the listing endpoint."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            Authentication authentication,
+            @Parameter(description = "Output format: CSV or NDJSON") @RequestParam(defaultValue = "CSV") TransactionFileFormat format,
+            @Parameter(description = "Transaction type: INCOME or EXPENSE") @RequestParam(required = false) TransactionType type,
+            @Parameter(description = "Category ID") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "Start date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        boolean csv = format == TransactionFileFormat.CSV;
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(csv ? "transactions.csv" : "transactions.ndjson")
+                .build();
+        StreamingResponseBody body = out ->
+                exportService.exportTransactions(userId, type, categoryId, startDate, endDate, format, out);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : new MediaType("application", "x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,66 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.dto.TransactionFileFormat;
+import com.yogendra.finance_tracker.dto.ImportResultResponse;
+import com.yogendra.finance_tracker.security.AuthenticatedUserResolver;
+import com.yogendra.finance_tracker.service.TransactionImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Tag(name = "Transaction Import", description = "Bulk import of transactions")
+@RestController
+@RequestMapping("/api/transactions/import")
+public class TransactionImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final TransactionImportService importService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    @Autowired
+    public TransactionImportController(TransactionImportService importService,
+                                       AuthenticatedUserResolver authenticatedUserResolver) {
+        this.importService = importService;
+        this.authenticatedUserResolver = authenticatedUserResolver;
+    }
+
+    @Operation(
+            summary = "Import transactions from CSV",
+            description = "Streams a CSV body with a header row (date, amount, type, categoryId, description). "
+                    + "Invalid rows are reported by line number and skipped; valid rows are imported."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import finished"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<ImportResultResponse> importCsv(InputStream body, Authentication authentication) throws IOException {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        return ResponseEntity.ok(importService.importTransactions(userId, body, TransactionFileFormat.CSV));
+    }
+
+    @Operation(
+            summary = "Import transactions from NDJSON",
+            description = "Streams one JSON object per line with the same fields as a create request. "
+                    + "Invalid rows are reported by line number and skipped; valid rows are imported."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import finished"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @PostMapping(consumes = NDJSON)
+    public ResponseEntity<ImportResultResponse> importNdjson(InputStream body, Authentication authentication) throws IOException {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        return ResponseEntity.ok(importService.importTransactions(userId, body, TransactionFileFormat.NDJSON));
+    }
+}
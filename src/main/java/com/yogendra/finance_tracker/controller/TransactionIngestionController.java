@@ -0,0 +1,51 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.dto.IngestionStatusResponse;
+import com.yogendra.finance_tracker.security.AuthenticatedUserResolver;
+import com.yogendra.finance_tracker.service.TransactionIngestionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Transaction Ingestion", description = "Status of transactions created with Prefer: respond-async")
+@RestController
+@RequestMapping("/api/transactions/ingestion")
+public class TransactionIngestionController {
+
+    private final TransactionIngestionService ingestionService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    @Autowired
+    public TransactionIngestionController(TransactionIngestionService ingestionService,
+                                          AuthenticatedUserResolver authenticatedUserResolver) {
+        this.ingestionService = ingestionService;
+        this.authenticatedUserResolver = authenticatedUserResolver;
+    }
+
+    @Operation(
+            summary = "Get the status of a queued transaction",
+            description = "PENDING until the background writer commits it, then COMMITTED with the transaction id, or FAILED. "
+                    + "Statuses expire after transactions.ingestion.status-ttl."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "404", description = "Unknown or expired tracking id", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<IngestionStatusResponse> getStatus(
+            @Parameter(description = "Tracking id from the 202 response") @PathVariable String trackingId,
+            Authentication authentication) {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        return ingestionService.getStatus(trackingId, userId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
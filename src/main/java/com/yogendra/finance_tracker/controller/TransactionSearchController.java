@@ -0,0 +1,72 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.dto.SearchIndexRebuildResponse;
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.security.AuthenticatedUserResolver;
+import com.yogendra.finance_tracker.service.TransactionSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@Tag(name = "Transaction Search", description = "Full-text search over transaction descriptions")
+@RestController
+@RequestMapping("/api/transactions/search")
+public class TransactionSearchController {
+
+    private final TransactionSearchService searchService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    @Autowired
+    public TransactionSearchController(TransactionSearchService searchService,
+                                       AuthenticatedUserResolver authenticatedUserResolver) {
+        this.searchService = searchService;
+        this.authenticatedUserResolver = authenticatedUserResolver;
+    }
+
+    @Operation(
+            summary = "Search transactions",
+            description = "Returns the authenticated user's transactions whose description contains every word of the query, "
+                    + "each word matching as a prefix (\"gro\" finds \"Groceries\"). Results are ranked by relevance, then newest first, "
+                    + "and can be narrowed with the same filters as the listing."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<Page<TransactionResponse>> search(
+            Authentication authentication,
+            @Parameter(description = "Search words") @RequestParam String q,
+            @Parameter(description = "Transaction type: INCOME or EXPENSE") @RequestParam(required = false) TransactionType type,
+            @Parameter(description = "Category ID") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "Start date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            Pageable pageable
+    ) {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        return ResponseEntity.ok(searchService.search(userId, q, type, categoryId, startDate, endDate, pageable));
+    }
+
+    @Operation(
+            summary = "Rebuild the search index",
+            description = "Rebuilds the authenticated user's search index from their transactions."
+    )
+    @PostMapping("/rebuild")
+    public ResponseEntity<SearchIndexRebuildResponse> rebuild(Authentication authentication) {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        return ResponseEntity.ok(new SearchIndexRebuildResponse(userId, searchService.rebuild(userId)));
+    }
+}
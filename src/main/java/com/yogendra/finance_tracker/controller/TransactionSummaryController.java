@@ -0,0 +1,109 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.dto.CategoryTotalResponse;
+import com.yogendra.finance_tracker.dto.MonthlyTotalResponse;
+import com.yogendra.finance_tracker.dto.RollupRebuildResponse;
+import com.yogendra.finance_tracker.dto.TypeTotalResponse;
+import com.yogendra.finance_tracker.security.AuthenticatedUserResolver;
+import com.yogendra.finance_tracker.service.MonthlyRollupService;
+import com.yogendra.finance_tracker.service.TransactionSummaryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "Transaction Summaries", description = "Aggregated income and expense totals")
+@RestController
+@RequestMapping("/api/transactions/summary")
+public class TransactionSummaryController {
+
+    private final TransactionSummaryService summaryService;
+    private final MonthlyRollupService rollupService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+
+    @Autowired
+    public TransactionSummaryController(TransactionSummaryService summaryService,
+                                        MonthlyRollupService rollupService,
+                                        AuthenticatedUserResolver authenticatedUserResolver) {
+        this.summaryService = summaryService;
+        this.rollupService = rollupService;
+        this.authenticatedUserResolver = authenticatedUserResolver;
+    }
+
+    @Operation(
+            summary = "Get totals by type",
+            description = "Returns the income and expense totals of the authenticated user, optionally within a date range."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<List<TypeTotalResponse>> getTotalsByType(
+            Authentication authentication,
+            @Parameter(description = "Start date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        return ResponseEntity.ok(summaryService.getTotalsByType(userId, startDate, endDate));
+    }
+
+    @Operation(
+            summary = "Get totals by category",
+            description = "Returns totals per category and type for the authenticated user, optionally within a date range."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @GetMapping("/by-category")
+    public ResponseEntity<List<CategoryTotalResponse>> getTotalsByCategory(
+            Authentication authentication,
+            @Parameter(description = "Start date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        return ResponseEntity.ok(summaryService.getTotalsByCategory(userId, startDate, endDate));
+    }
+
+    @Operation(
+            summary = "Get totals by month",
+            description = "Returns totals per calendar month and type for the authenticated user, optionally within a date range."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @GetMapping("/by-month")
+    public ResponseEntity<List<MonthlyTotalResponse>> getTotalsByMonth(
+            Authentication authentication,
+            @Parameter(description = "Start date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        return ResponseEntity.ok(summaryService.getTotalsByMonth(userId, startDate, endDate));
+    }
+
+    @Operation(
+            summary = "Verify and rebuild monthly rollups",
+            description = "Recomputes the authenticated user's monthly rollups from raw transactions and repairs any mismatch. With dryRun=true only reports mismatches."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Success"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<RollupRebuildResponse> rebuildRollups(
+            Authentication authentication,
+            @Parameter(description = "Only report mismatches") @RequestParam(defaultValue = "false") boolean dryRun) {
+        Long userId = authenticatedUserResolver.getUserId(authentication);
+        return ResponseEntity.ok(rollupService.rebuild(userId, dryRun));
+    }
+}
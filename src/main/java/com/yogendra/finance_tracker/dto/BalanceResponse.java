@@ -0,0 +1,25 @@
+package com.yogendra.finance_tracker.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Setter
+@Getter
+public class BalanceResponse {
+    private BigDecimal income;
+    private BigDecimal expense;
+    // income - expense
+    private BigDecimal balance;
+    private Long count;
+
+    public BalanceResponse() {}
+
+    public BalanceResponse(BigDecimal income, BigDecimal expense, Long count) {
+        this.income = income;
+        this.expense = expense;
+        this.balance = income.subtract(expense);
+        this.count = count;
+    }
+}
@@ -0,0 +1,31 @@
+package com.yogendra.finance_tracker.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Setter
+@Getter
+public class BudgetStatusResponse {
+    private Long categoryId;
+    private String categoryName;
+    // Null when the category has no budget; remaining and overBudget are then null as well
+    private BigDecimal monthlyBudget;
+    private BigDecimal spent;
+    private BigDecimal remaining;
+    private Boolean overBudget;
+
+    public BudgetStatusResponse() {}
+
+    public BudgetStatusResponse(Long categoryId, String categoryName, BigDecimal monthlyBudget, BigDecimal spent) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.monthlyBudget = monthlyBudget;
+        this.spent = spent != null ? spent : BigDecimal.ZERO;
+        if (monthlyBudget != null) {
+            this.remaining = monthlyBudget.subtract(this.spent);
+            this.overBudget = this.remaining.signum() < 0;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.yogendra.finance_tracker.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class BulkOperationResponse {
+    private int affected;
+
+    public BulkOperationResponse() {}
+
+    public BulkOperationResponse(int affected) {
+        this.affected = affected;
+    }
+}
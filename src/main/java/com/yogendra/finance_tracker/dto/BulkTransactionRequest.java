@@ -0,0 +1,20 @@
+package com.yogendra.finance_tracker.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+public class BulkTransactionRequest {
+
+    @NotEmpty(message = "Transaction IDs are required")
+    @Size(max = 1000, message = "At most 1000 transaction IDs per request")
+    private List<Long> ids;
+
+    // Target category for moves; ignored by deletes
+    private Long categoryId;
+}
@@ -0,0 +1,30 @@
+package com.yogendra.finance_tracker.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Setter
+@Getter
+public class CategoryBalanceResponse {
+    private Long categoryId;
+    private String categoryName;
+    private BigDecimal income;
+    private BigDecimal expense;
+    // income - expense
+    private BigDecimal balance;
+    private Long count;
+
+    public CategoryBalanceResponse() {}
+
+    public CategoryBalanceResponse(Long categoryId, String categoryName, BigDecimal income,
+                                   BigDecimal expense, Long count) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.income = income;
+        this.expense = expense;
+        this.balance = income.subtract(expense);
+        this.count = count;
+    }
+}
@@ -1,14 +1,21 @@
 package com.yogendra.finance_tracker.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+
 @Setter
 @Getter
 public class CategoryRequest {
     @NotBlank(message = "Category name is required")
     @Size(max = 100, message = "Category name must be at most 100 characters")
     private String name;
+
+    // Optional; omitting it on update removes the budget
+    @PositiveOrZero(message = "Monthly budget must not be negative")
+    private BigDecimal monthlyBudget;
 }
@@ -4,16 +4,20 @@ import com.yogendra.finance_tracker.model.Category;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.math.BigDecimal;
+
 @Setter
 @Getter
 public class CategoryResponse {
     private Long id;
     private String name;
+    private BigDecimal monthlyBudget;
 
     public static CategoryResponse fromEntity(Category category) {
         CategoryResponse dto = new CategoryResponse();
         dto.setId(category.getId());
         dto.setName(category.getName());
+        dto.setMonthlyBudget(category.getMonthlyBudget());
         return dto;
     }
 }
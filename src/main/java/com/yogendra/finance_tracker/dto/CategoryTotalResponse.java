@@ -0,0 +1,28 @@
+package com.yogendra.finance_tracker.dto;
+
+import com.yogendra.finance_tracker.model.TransactionType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Setter
+@Getter
+public class CategoryTotalResponse {
+    private Long categoryId;
+    private String categoryName;
+    private TransactionType type;
+    private BigDecimal total;
+    private Long count;
+
+    public CategoryTotalResponse() {}
+
+    public CategoryTotalResponse(Long categoryId, String categoryName, TransactionType type,
+                                 BigDecimal total, Long count) {
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.type = type;
+        this.total = total;
+        this.count = count;
+    }
+}
@@ -0,0 +1,23 @@
+package com.yogendra.finance_tracker.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Setter
+@Getter
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    // Null when there are no further rows
+    private String nextCursor;
+
+    public CursorPageResponse() {}
+
+    public CursorPageResponse(List<T> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,29 @@
+package com.yogendra.finance_tracker.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+public class ImportResultResponse {
+    // Only the first errors are listed in detail, so the response stays small for bad files
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private long imported;
+    private long failed;
+    private List<ImportRowError> errors = new ArrayList<>();
+
+    public void addImported(long count) {
+        imported += count;
+    }
+
+    public void addError(long line, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ImportRowError(line, message));
+        }
+    }
+}
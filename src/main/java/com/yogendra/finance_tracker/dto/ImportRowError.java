@@ -0,0 +1,18 @@
+package com.yogendra.finance_tracker.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class ImportRowError {
+    private long line;
+    private String message;
+
+    public ImportRowError() {}
+
+    public ImportRowError(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+}
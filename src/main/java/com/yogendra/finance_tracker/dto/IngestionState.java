@@ -0,0 +1,7 @@
+package com.yogendra.finance_tracker.dto;
+
+public enum IngestionState {
+    PENDING,
+    COMMITTED,
+    FAILED
+}
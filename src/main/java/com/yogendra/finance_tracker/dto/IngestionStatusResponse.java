@@ -0,0 +1,24 @@
+package com.yogendra.finance_tracker.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class IngestionStatusResponse {
+    private String trackingId;
+    private IngestionState state;
+    // Set once the transaction is committed
+    private Long transactionId;
+    // Set when the write failed
+    private String error;
+
+    public IngestionStatusResponse() {}
+
+    public IngestionStatusResponse(String trackingId, IngestionState state, Long transactionId, String error) {
+        this.trackingId = trackingId;
+        this.state = state;
+        this.transactionId = transactionId;
+        this.error = error;
+    }
+}
@@ -0,0 +1,27 @@
+package com.yogendra.finance_tracker.dto;
+
+import com.yogendra.finance_tracker.model.TransactionType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Setter
+@Getter
+public class MonthlyTotalResponse {
+    private Integer year;
+    private Integer month;
+    private TransactionType type;
+    private BigDecimal total;
+    private Long count;
+
+    public MonthlyTotalResponse() {}
+
+    public MonthlyTotalResponse(Integer year, Integer month, TransactionType type, BigDecimal total, Long count) {
+        this.year = year;
+        this.month = month;
+        this.type = type;
+        this.total = total;
+        this.count = count;
+    }
+}
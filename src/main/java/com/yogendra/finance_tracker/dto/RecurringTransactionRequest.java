@@ -0,0 +1,46 @@
+package com.yogendra.finance_tracker.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Setter
+@Getter
+public class RecurringTransactionRequest {
+
+    @NotNull(message = "Amount is required")
+    @Positive(message = "Amount must be positive")
+    private BigDecimal amount;
+
+    @NotNull(message = "Type is required")
+    @Pattern(regexp = "INCOME|EXPENSE", message = "Type must be INCOME or EXPENSE")
+    private String type;
+
+    @Size(max = 255, message = "Description must be at most 255 characters")
+    private String description;
+
+    @NotNull(message = "Category ID is required")
+    private Long categoryId;
+
+    @NotNull(message = "Frequency is required")
+    @Pattern(regexp = "DAILY|WEEKLY|MONTHLY|YEARLY", message = "Frequency must be DAILY, WEEKLY, MONTHLY or YEARLY")
+    private String frequency;
+
+    // Every n units of the frequency, e.g. 2 with WEEKLY for fortnightly; defaults to 1
+    @Min(value = 1, message = "Interval must be at least 1")
+    @Max(value = 1000, message = "Interval must be at most 1000")
+    private Integer interval;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    @AssertTrue(message = "End date must not be before start date")
+    private boolean isDateRangeValid() {
+        return startDate == null || endDate == null || !endDate.isBefore(startDate);
+    }
+}
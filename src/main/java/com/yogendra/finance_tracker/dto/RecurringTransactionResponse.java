@@ -0,0 +1,42 @@
+package com.yogendra.finance_tracker.dto;
+
+import com.yogendra.finance_tracker.model.RecurrenceFrequency;
+import com.yogendra.finance_tracker.model.RecurringTransaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Setter
+@Getter
+public class RecurringTransactionResponse {
+    private Long id;
+    private BigDecimal amount;
+    private TransactionType type;
+    private String description;
+    private Long categoryId;
+    private RecurrenceFrequency frequency;
+    private int interval;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate nextRunDate;
+    private long occurrenceCount;
+
+    public static RecurringTransactionResponse fromEntity(RecurringTransaction recurring) {
+        RecurringTransactionResponse dto = new RecurringTransactionResponse();
+        dto.setId(recurring.getId());
+        dto.setAmount(recurring.getAmount());
+        dto.setType(recurring.getType());
+        dto.setDescription(recurring.getDescription());
+        dto.setCategoryId(recurring.getCategory().getId());
+        dto.setFrequency(recurring.getFrequency());
+        dto.setInterval(recurring.getIntervalCount());
+        dto.setStartDate(recurring.getStartDate());
+        dto.setEndDate(recurring.getEndDate());
+        dto.setNextRunDate(recurring.getNextRunDate());
+        dto.setOccurrenceCount(recurring.getOccurrenceCount());
+        return dto;
+    }
+}
@@ -0,0 +1,24 @@
+package com.yogendra.finance_tracker.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class RollupRebuildResponse {
+    private Long userId;
+    private int rowsBefore;
+    private int rowsAfter;
+    private int mismatches;
+    private boolean repaired;
+
+    public RollupRebuildResponse() {}
+
+    public RollupRebuildResponse(Long userId, int rowsBefore, int rowsAfter, int mismatches, boolean repaired) {
+        this.userId = userId;
+        this.rowsBefore = rowsBefore;
+        this.rowsAfter = rowsAfter;
+        this.mismatches = mismatches;
+        this.repaired = repaired;
+    }
+}
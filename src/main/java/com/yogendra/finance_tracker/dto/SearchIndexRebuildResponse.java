@@ -0,0 +1,18 @@
+package com.yogendra.finance_tracker.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class SearchIndexRebuildResponse {
+    private Long userId;
+    private int indexed;
+
+    public SearchIndexRebuildResponse() {}
+
+    public SearchIndexRebuildResponse(Long userId, int indexed) {
+        this.userId = userId;
+        this.indexed = indexed;
+    }
+}
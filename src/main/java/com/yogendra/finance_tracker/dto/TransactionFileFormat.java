@@ -0,0 +1,6 @@
+package com.yogendra.finance_tracker.dto;
+
+public enum TransactionFileFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,23 @@
+package com.yogendra.finance_tracker.dto;
+
+import com.yogendra.finance_tracker.model.TransactionType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Setter
+@Getter
+public class TypeTotalResponse {
+    private TransactionType type;
+    private BigDecimal total;
+    private Long count;
+
+    public TypeTotalResponse() {}
+
+    public TypeTotalResponse(TransactionType type, BigDecimal total, Long count) {
+        this.type = type;
+        this.total = total;
+        this.count = count;
+    }
+}
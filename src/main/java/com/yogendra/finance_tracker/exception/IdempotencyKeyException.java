@@ -0,0 +1,21 @@
+package com.yogendra.finance_tracker.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * A request carrying an Idempotency-Key cannot be served: the key is still in use by another
+ * request (409) or was first used with a different request body (422).
+ */
+public class IdempotencyKeyException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    public IdempotencyKeyException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
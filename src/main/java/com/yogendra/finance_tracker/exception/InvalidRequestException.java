@@ -0,0 +1,12 @@
+package com.yogendra.finance_tracker.exception;
+
+/**
+ * A request parameter that passed binding but cannot be served, such as an inverted date range;
+ * answered with 400 rather than the 404 an {@link IllegalArgumentException} maps to.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
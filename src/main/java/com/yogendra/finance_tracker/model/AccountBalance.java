@@ -0,0 +1,27 @@
+package com.yogendra.finance_tracker.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * All-time totals of one user, maintained incrementally alongside every transaction write.
+ */
+@Data
+@Entity
+@Table(name = "account_balance")
+public class AccountBalance {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private BigDecimal income;
+
+    @Column(nullable = false)
+    private BigDecimal expense;
+
+    @Column(name = "txn_count", nullable = false)
+    private Long count;
+}
@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.ToString;
 import lombok.EqualsAndHashCode;
 
+import java.math.BigDecimal;
+
 @Data
 @Entity
 @Table(name = "category")
@@ -17,6 +19,10 @@ public class Category {
     private String name;
     private String color;
 
+    // Spending limit per calendar month; null when the category has no budget
+    @Column(name = "monthly_budget")
+    private BigDecimal monthlyBudget;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     @ToString.Exclude
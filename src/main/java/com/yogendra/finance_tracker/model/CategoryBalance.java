@@ -0,0 +1,43 @@
+package com.yogendra.finance_tracker.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * All-time totals of one user's category, maintained together with {@link AccountBalance}.
+ */
+@Data
+@Entity
+@Table(name = "category_balance")
+@IdClass(CategoryBalance.Key.class)
+public class CategoryBalance {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private BigDecimal income;
+
+    @Column(nullable = false)
+    private BigDecimal expense;
+
+    @Column(name = "txn_count", nullable = false)
+    private Long count;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long categoryId;
+    }
+}
@@ -0,0 +1,54 @@
+package com.yogendra.finance_tracker.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Stored outcome of a request sent with an {@code Idempotency-Key}; see
+ * {@link com.yogendra.finance_tracker.service.IdempotencyService}.
+ */
+@Data
+@Entity
+@Table(name = "idempotency_record", indexes = {
+        @Index(name = "idx_idempotency_record_created_at", columnList = "created_at")
+})
+@IdClass(IdempotencyRecord.Key.class)
+public class IdempotencyRecord {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;
+
+    // SHA-256 of the request body, to reject a reused key with a different request
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    // Null while the first request is still running
+    @Column(name = "status_code")
+    private Integer statusCode;
+
+    private String location;
+
+    @Column(name = "response_body", length = 4000)
+    private String responseBody;
+
+    // UTC
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private String idempotencyKey;
+    }
+}
@@ -0,0 +1,64 @@
+package com.yogendra.finance_tracker.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Per-user totals for one month, category and type, maintained incrementally by
+ * TransactionServiceImpl so reports never have to scan the transaction table.
+ */
+@Data
+@Entity
+@Table(name = "monthly_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_monthly_rollup_key",
+                columnNames = {"user_id", "month_start", "category_key", "type"}))
+public class MonthlyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Category category;
+
+    // Category id, or 0 when uncategorized; the unique key is on this column because a unique
+    // key over the nullable category_id would treat every uncategorized row as distinct
+    @Column(name = "category_key", nullable = false)
+    private Long categoryKey;
+
+    // First day of the month the totals belong to
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Column(nullable = false)
+    private BigDecimal total;
+
+    @Column(name = "txn_count", nullable = false)
+    private Long count;
+
+    @PrePersist
+    void setCategoryKey() {
+        categoryKey = category != null ? category.getId() : 0L;
+    }
+}
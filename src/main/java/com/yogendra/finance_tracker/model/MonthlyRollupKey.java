@@ -0,0 +1,39 @@
+package com.yogendra.finance_tracker.model;
+
+import com.yogendra.finance_tracker.repository.MonthlyAggregate;
+import com.yogendra.finance_tracker.repository.TransactionSnapshot;
+
+import java.time.LocalDate;
+
+/**
+ * Identifies the {@link MonthlyRollup} row a transaction contributes to.
+ */
+public record MonthlyRollupKey(Long userId, Long categoryId, LocalDate monthStart, TransactionType type) {
+
+    public static MonthlyRollupKey of(Transaction transaction) {
+        return new MonthlyRollupKey(
+                transaction.getUser().getId(),
+                transaction.getCategory() != null ? transaction.getCategory().getId() : null,
+                transaction.getDate().withDayOfMonth(1),
+                transaction.getType()
+        );
+    }
+
+    public static MonthlyRollupKey of(Long userId, MonthlyAggregate aggregate) {
+        return new MonthlyRollupKey(
+                userId,
+                aggregate.getCategoryId(),
+                LocalDate.of(aggregate.getPeriodYear(), aggregate.getPeriodMonth(), 1),
+                aggregate.getType()
+        );
+    }
+
+    public static MonthlyRollupKey of(TransactionSnapshot snapshot) {
+        return new MonthlyRollupKey(
+                snapshot.getUserId(),
+                snapshot.getCategoryId(),
+                snapshot.getDate().withDayOfMonth(1),
+                snapshot.getType()
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package com.yogendra.finance_tracker.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Entity
+@Table(name = "recurring_transaction", indexes = {
+        @Index(name = "idx_recurring_next_run", columnList = "next_run_date, user_id, id")
+})
+public class RecurringTransaction {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Lazy: the scheduler only needs the ids to build the posted transactions
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "category_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Category category;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecurrenceFrequency frequency;
+
+    // Every n days/weeks/months/years
+    @Column(name = "interval_count", nullable = false)
+    private int intervalCount;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    // Last day an occurrence may fall on; null for no end
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    // First occurrence not yet posted; null once the schedule has ended
+    @Column(name = "next_run_date")
+    private LocalDate nextRunDate;
+
+    @Column(name = "occurrence_count", nullable = false)
+    private long occurrenceCount;
+
+    /**
+     * Date of the occurrence with the given zero-based index. Always computed from the start date,
+     * so a schedule starting on the 31st posts on the last day of shorter months without drifting.
+     */
+    public LocalDate occurrence(long index) {
+        return startDate.plus(index * intervalCount, frequency.getUnit());
+    }
+
+    // Date of the given occurrence, or null if it falls after the end date
+    public LocalDate scheduledDate(long index) {
+        LocalDate date = occurrence(index);
+        return endDate != null && date.isAfter(endDate) ? null : date;
+    }
+}
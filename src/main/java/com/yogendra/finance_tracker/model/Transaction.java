@@ -9,10 +9,17 @@ import lombok.EqualsAndHashCode;
 
 @Data
 @Entity
-@Table(name = "transaction")
+@Table(name = "transaction", indexes = {
+        @Index(name = "idx_transaction_user_date", columnList = "user_id, date, id"),
+        @Index(name = "idx_transaction_user_category_date", columnList = "user_id, category_id, date, id"),
+        @Index(name = "idx_transaction_user_type_date", columnList = "user_id, type, date, id")
+})
 public class Transaction {
+    // Pooled table generator instead of IDENTITY so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "transaction_id")
+    @TableGenerator(name = "transaction_id", table = "id_generator", pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = "transaction", allocationSize = 50)
     private Long id;
 
     @ManyToOne
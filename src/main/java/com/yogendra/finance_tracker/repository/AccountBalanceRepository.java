@@ -0,0 +1,23 @@
+package com.yogendra.finance_tracker.repository;
+
+import com.yogendra.finance_tracker.model.AccountBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+
+public interface AccountBalanceRepository extends JpaRepository<AccountBalance, Long> {
+
+    // Atomic upsert on the primary key, so concurrent writers never lose a delta
+    @Modifying
+    @Query(value = "insert into account_balance (user_id, income, expense, txn_count) " +
+            "values (:userId, :income, :expense, :count) " +
+            "on duplicate key update income = income + :income, expense = expense + :expense, txn_count = txn_count + :count",
+            nativeQuery = true)
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("income") BigDecimal income,
+                   @Param("expense") BigDecimal expense,
+                   @Param("count") long count);
+}
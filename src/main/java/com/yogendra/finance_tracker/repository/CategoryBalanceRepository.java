@@ -0,0 +1,33 @@
+package com.yogendra.finance_tracker.repository;
+
+import com.yogendra.finance_tracker.dto.CategoryBalanceResponse;
+import com.yogendra.finance_tracker.model.CategoryBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface CategoryBalanceRepository extends JpaRepository<CategoryBalance, CategoryBalance.Key> {
+
+    List<CategoryBalance> findByUserId(Long userId);
+
+    // Atomic upsert on the primary key, so concurrent writers never lose a delta
+    @Modifying
+    @Query(value = "insert into category_balance (user_id, category_id, income, expense, txn_count) " +
+            "values (:userId, :categoryId, :income, :expense, :count) " +
+            "on duplicate key update income = income + :income, expense = expense + :expense, txn_count = txn_count + :count",
+            nativeQuery = true)
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("categoryId") Long categoryId,
+                   @Param("income") BigDecimal income,
+                   @Param("expense") BigDecimal expense,
+                   @Param("count") long count);
+
+    @Query("select new com.yogendra.finance_tracker.dto.CategoryBalanceResponse(b.categoryId, c.name, b.income, b.expense, b.count) " +
+            "from CategoryBalance b join Category c on c.id = b.categoryId " +
+            "where b.userId = :userId order by c.name")
+    List<CategoryBalanceResponse> findResponsesByUserId(@Param("userId") Long userId);
+}
@@ -1,12 +1,25 @@
 package com.yogendra.finance_tracker.repository;
 
+import com.yogendra.finance_tracker.dto.BudgetStatusResponse;
 import com.yogendra.finance_tracker.model.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     List<Category> findByUserId(Long userId);
     Optional<Category> findByIdAndUserId(Long id, Long userId);
+    List<Category> findByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    // One row per category; spend is the category's EXPENSE rollup for the month, found by its unique key
+    @Query("select new com.yogendra.finance_tracker.dto.BudgetStatusResponse(c.id, c.name, c.monthlyBudget, r.total) " +
+            "from Category c left join MonthlyRollup r on r.user.id = :userId and r.monthStart = :monthStart " +
+            "and r.category = c and r.type = com.yogendra.finance_tracker.model.TransactionType.EXPENSE " +
+            "where c.user.id = :userId order by c.name")
+    List<BudgetStatusResponse> findBudgetStatus(@Param("userId") Long userId, @Param("monthStart") LocalDate monthStart);
 }
@@ -0,0 +1,56 @@
+package com.yogendra.finance_tracker.repository;
+
+import com.yogendra.finance_tracker.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecord.Key> {
+
+    // Plain insert so a concurrent claim of the same key fails on the primary key instead of merging
+    @Transactional
+    @Modifying
+    @Query(value = "insert into idempotency_record (user_id, idempotency_key, request_hash, created_at) " +
+            "values (:userId, :key, :requestHash, :createdAt)", nativeQuery = true)
+    int insertClaim(@Param("userId") Long userId,
+                    @Param("key") String key,
+                    @Param("requestHash") String requestHash,
+                    @Param("createdAt") LocalDateTime createdAt);
+
+    // Only completes the caller's own claim; zero when the claim was released or taken over
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyRecord r set r.statusCode = :statusCode, r.location = :location, r.responseBody = :body " +
+            "where r.userId = :userId and r.idempotencyKey = :key and r.createdAt = :claimedAt and r.statusCode is null")
+    int complete(@Param("userId") Long userId,
+                 @Param("key") String key,
+                 @Param("claimedAt") LocalDateTime claimedAt,
+                 @Param("statusCode") int statusCode,
+                 @Param("location") String location,
+                 @Param("body") String body);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.userId = :userId and r.idempotencyKey = :key " +
+            "and r.createdAt = :claimedAt and r.statusCode is null")
+    int release(@Param("userId") Long userId, @Param("key") String key, @Param("claimedAt") LocalDateTime claimedAt);
+
+    // Conditional, so a fresh claim made by another instance in the meantime is left alone
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.userId = :userId and r.idempotencyKey = :key " +
+            "and (r.createdAt < :expiredBefore or r.statusCode is null and r.createdAt < :abandonedBefore)")
+    int releaseStale(@Param("userId") Long userId,
+                     @Param("key") String key,
+                     @Param("expiredBefore") LocalDateTime expiredBefore,
+                     @Param("abandonedBefore") LocalDateTime abandonedBefore);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
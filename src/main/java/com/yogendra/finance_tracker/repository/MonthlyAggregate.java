@@ -0,0 +1,15 @@
+package com.yogendra.finance_tracker.repository;
+
+import com.yogendra.finance_tracker.model.TransactionType;
+
+import java.math.BigDecimal;
+
+// Projection of raw transactions grouped by category, month and type, used to rebuild rollups
+public interface MonthlyAggregate {
+    Long getCategoryId();
+    Integer getPeriodYear();
+    Integer getPeriodMonth();
+    TransactionType getType();
+    BigDecimal getTotal();
+    Long getCount();
+}
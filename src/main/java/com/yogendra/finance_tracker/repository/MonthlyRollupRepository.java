@@ -0,0 +1,66 @@
+package com.yogendra.finance_tracker.repository;
+
+import com.yogendra.finance_tracker.dto.CategoryTotalResponse;
+import com.yogendra.finance_tracker.dto.MonthlyTotalResponse;
+import com.yogendra.finance_tracker.dto.TypeTotalResponse;
+import com.yogendra.finance_tracker.model.MonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long> {
+
+    List<MonthlyRollup> findByUserId(Long userId);
+
+    // Atomic upsert relying on uk_monthly_rollup_key, so concurrent writers never lose a delta
+    @Modifying
+    @Query(value = "insert into monthly_rollup (user_id, category_id, category_key, month_start, type, total, txn_count) " +
+            "values (:userId, :categoryId, coalesce(:categoryId, 0), :monthStart, :type, :amount, :count) " +
+            "on duplicate key update total = total + :amount, txn_count = txn_count + :count",
+            nativeQuery = true)
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("categoryId") Long categoryId,
+                   @Param("monthStart") LocalDate monthStart,
+                   @Param("type") String type,
+                   @Param("amount") BigDecimal amount,
+                   @Param("count") long count);
+
+    @Modifying
+    @Query("delete from MonthlyRollup r where r.user.id = :userId and r.count <= 0")
+    int deleteEmpty(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from MonthlyRollup r where r.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // Report queries; a null start or end month leaves that side of the range open
+
+    @Query("select new com.yogendra.finance_tracker.dto.TypeTotalResponse(r.type, sum(r.total), sum(r.count)) " +
+            "from MonthlyRollup r where r.user.id = :userId " +
+            "and (:startMonth is null or r.monthStart >= :startMonth) and (:endMonth is null or r.monthStart <= :endMonth) " +
+            "group by r.type order by r.type")
+    List<TypeTotalResponse> sumByType(@Param("userId") Long userId,
+                                      @Param("startMonth") LocalDate startMonth,
+                                      @Param("endMonth") LocalDate endMonth);
+
+    @Query("select new com.yogendra.finance_tracker.dto.CategoryTotalResponse(c.id, c.name, r.type, sum(r.total), sum(r.count)) " +
+            "from MonthlyRollup r left join r.category c where r.user.id = :userId " +
+            "and (:startMonth is null or r.monthStart >= :startMonth) and (:endMonth is null or r.monthStart <= :endMonth) " +
+            "group by c.id, c.name, r.type order by c.name, r.type")
+    List<CategoryTotalResponse> sumByCategory(@Param("userId") Long userId,
+                                              @Param("startMonth") LocalDate startMonth,
+                                              @Param("endMonth") LocalDate endMonth);
+
+    @Query("select new com.yogendra.finance_tracker.dto.MonthlyTotalResponse(year(r.monthStart), month(r.monthStart), r.type, sum(r.total), sum(r.count)) " +
+            "from MonthlyRollup r where r.user.id = :userId " +
+            "and (:startMonth is null or r.monthStart >= :startMonth) and (:endMonth is null or r.monthStart <= :endMonth) " +
+            "group by year(r.monthStart), month(r.monthStart), r.type order by year(r.monthStart), month(r.monthStart), r.type")
+    List<MonthlyTotalResponse> sumByMonth(@Param("userId") Long userId,
+                                          @Param("startMonth") LocalDate startMonth,
+                                          @Param("endMonth") LocalDate endMonth);
+}
@@ -0,0 +1,41 @@
+package com.yogendra.finance_tracker.repository;
+
+import com.yogendra.finance_tracker.model.RecurringTransaction;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, Long> {
+    List<RecurringTransaction> findByUserIdOrderById(Long userId);
+    Optional<RecurringTransaction> findByIdAndUserId(Long id, Long userId);
+
+    // Keyset page of due templates in one partition (user id modulo partitions), ordered by user then id
+    @Query("select r from RecurringTransaction r where r.nextRunDate <= :today " +
+            "and mod(r.user.id, :partitions) = :partition " +
+            "and (r.user.id > :afterUserId or (r.user.id = :afterUserId and r.id > :afterId)) " +
+            "order by r.user.id, r.id")
+    List<RecurringTransaction> findDue(@Param("today") LocalDate today,
+                                       @Param("partitions") int partitions,
+                                       @Param("partition") int partition,
+                                       @Param("afterUserId") Long afterUserId,
+                                       @Param("afterId") Long afterId,
+                                       Limit limit);
+
+    /**
+     * Moves the template's cursor past the occurrences about to be posted, but only if no one else
+     * has moved it since it was read. Returns 0 when another worker already claimed them.
+     */
+    @Modifying
+    @Query("update RecurringTransaction r set r.occurrenceCount = :newCount, r.nextRunDate = :nextRunDate " +
+            "where r.id = :id and r.occurrenceCount = :expectedCount")
+    int advance(@Param("id") Long id,
+                @Param("expectedCount") long expectedCount,
+                @Param("newCount") long newCount,
+                @Param("nextRunDate") LocalDate nextRunDate);
+}
@@ -0,0 +1,30 @@
+package com.yogendra.finance_tracker.repository;
+
+import com.yogendra.finance_tracker.dto.TransactionCursor;
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.model.Transaction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read path that selects {@link TransactionResponse} columns directly, joining only the
+ * category, instead of loading Transaction entities with their eager associations, plus the
+ * locking snapshot read behind filtered bulk deletes.
+ */
+public interface TransactionReadRepository {
+
+    Page<TransactionResponse> findResponses(Specification<Transaction> spec, Pageable pageable);
+
+    // Ordered by (date, id) descending, starting after the cursor when one is given
+    List<TransactionResponse> findResponsesAfter(Specification<Transaction> spec, TransactionCursor cursor, int limit);
+
+    // Forward-only stream in the same order, read fetchSize rows at a time; must be closed and consumed inside a transaction
+    Stream<TransactionResponse> streamResponses(Specification<Transaction> spec, int fetchSize);
+
+    // Locks up to limit matching rows in id order, starting after afterId when one is given
+    List<TransactionSnapshot> findSnapshotsForUpdate(Specification<Transaction> spec, Long afterId, int limit);
+}
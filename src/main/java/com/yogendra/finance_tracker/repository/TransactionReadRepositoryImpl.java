@@ -0,0 +1,184 @@
+package com.yogendra.finance_tracker.repository;
+
+import com.yogendra.finance_tracker.dto.TransactionCursor;
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+class TransactionReadRepositoryImpl implements TransactionReadRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TransactionResponse> findResponses(Specification<Transaction> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> query = cb.createQuery(TransactionResponse.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        selectResponse(cb, query, root);
+        query.where(spec.toPredicate(root, query, cb));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<TransactionResponse> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        // The count only runs when the page alone cannot tell the total
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TransactionResponse> findResponsesAfter(Specification<Transaction> spec, TransactionCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> query = cb.createQuery(TransactionResponse.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        selectResponse(cb, query, root);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (cursor != null) {
+            // (date, id) < (cursor.date, cursor.id)
+            Predicate seek = cb.or(
+                    cb.lessThan(root.<LocalDate>get("date"), cursor.date()),
+                    cb.and(cb.equal(root.get("date"), cursor.date()), cb.lessThan(root.<Long>get("id"), cursor.id()))
+            );
+            predicate = cb.and(predicate, seek);
+        }
+        query.where(predicate);
+        query.orderBy(cb.desc(root.get("date")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<TransactionResponse> streamResponses(Specification<Transaction> spec, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> query = cb.createQuery(TransactionResponse.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        selectResponse(cb, query, root);
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(cb.desc(root.get("date")), cb.desc(root.get("id")));
+
+        // Projections are not managed, so the persistence context does not grow while streaming
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    @Override
+    public List<TransactionSnapshot> findSnapshotsForUpdate(Specification<Transaction> spec, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Transaction> root = query.from(Transaction.class);
+        query.multiselect(
+                root.get("id"),
+                root.get("user").get("id"),
+                root.get("category").get("id"),
+                root.get("date"),
+                root.get("type"),
+                root.get("amount"));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (afterId != null) {
+            predicate = cb.and(predicate, cb.greaterThan(root.<Long>get("id"), afterId));
+        }
+        query.where(predicate);
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .<TransactionSnapshot>map(row -> new LockedSnapshot(
+                        row.get(0, Long.class),
+                        row.get(1, Long.class),
+                        row.get(2, Long.class),
+                        row.get(3, LocalDate.class),
+                        row.get(4, TransactionType.class),
+                        row.get(5, BigDecimal.class)))
+                .toList();
+    }
+
+    private void selectResponse(CriteriaBuilder cb, CriteriaQuery<TransactionResponse> query, Root<Transaction> root) {
+        Join<Transaction, Category> category = root.join("category", JoinType.LEFT);
+        query.select(cb.construct(TransactionResponse.class,
+                root.get("id"),
+                root.get("amount"),
+                root.get("type"),
+                root.get("description"),
+                root.get("date"),
+                category.get("id"),
+                category.get("name")));
+    }
+
+    private long count(Specification<Transaction> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Transaction> root = query.from(Transaction.class);
+        query.select(cb.count(root));
+        query.where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private record LockedSnapshot(Long id, Long userId, Long categoryId, LocalDate date, TransactionType type,
+                                  BigDecimal amount) implements TransactionSnapshot {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public Long getCategoryId() {
+            return categoryId;
+        }
+
+        @Override
+        public LocalDate getDate() {
+            return date;
+        }
+
+        @Override
+        public TransactionType getType() {
+            return type;
+        }
+
+        @Override
+        public BigDecimal getAmount() {
+            return amount;
+        }
+    }
+}
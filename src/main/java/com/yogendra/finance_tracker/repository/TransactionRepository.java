@@ -1,28 +1,115 @@
 package com.yogendra.finance_tracker.repository;
 
+import com.yogendra.finance_tracker.dto.CategoryTotalResponse;
+import com.yogendra.finance_tracker.dto.MonthlyTotalResponse;
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.dto.TypeTotalResponse;
+import com.yogendra.finance_tracker.model.Category;
 import com.yogendra.finance_tracker.model.Transaction;
 import com.yogendra.finance_tracker.model.TransactionType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-    Page<Transaction> findByUserId(Long userId, Pageable pageable);
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction>,
+        TransactionReadRepository {
+    @Query("select new com.yogendra.finance_tracker.dto.TransactionResponse(t.id, t.amount, t.type, t.description, t.date, c.id, c.name) " +
+            "from Transaction t left join t.category c where t.id = :id and t.user.id = :userId")
+    Optional<TransactionResponse> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 
-    Page<Transaction> findByUserIdAndType(Long userId, TransactionType type, Pageable pageable);
+    // Page of search hits; the caller restores the ranking order
+    @Query("select new com.yogendra.finance_tracker.dto.TransactionResponse(t.id, t.amount, t.type, t.description, t.date, c.id, c.name) " +
+            "from Transaction t left join t.category c where t.user.id = :userId and t.id in :ids")
+    List<TransactionResponse> findResponsesByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
 
-    Page<Transaction> findByUserIdAndCategoryId(Long userId, Long categoryId, Pageable pageable);
+    // Rows for (re)building a user's search index; transactions without a description are never matched
+    @Query("select t.id as id, t.description as description, t.type as type, t.category.id as categoryId, t.date as date " +
+            "from Transaction t where t.user.id = :userId and t.description is not null")
+    List<TransactionSearchRow> findSearchRowsByUserId(@Param("userId") Long userId);
 
-    Page<Transaction> findByUserIdAndDateBetween(Long userId, LocalDate startDate, LocalDate endDate, Pageable pageable);
+    // Locks the caller's row so the rollup delta computed from it cannot race a concurrent write;
+    // another user's row is neither returned nor locked
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id as id, t.user.id as userId, t.category.id as categoryId, t.date as date, t.type as type, t.amount as amount " +
+            "from Transaction t where t.id = :id and t.user.id = :userId")
+    Optional<TransactionSnapshot> findSnapshotByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 
-    Page<Transaction> findByUserIdAndTypeAndDateBetween(Long userId, TransactionType type, LocalDate startDate, LocalDate endDate, Pageable pageable);
+    // Single-row writes scoped to the owner; a zero count means the row is gone or not theirs
 
-    Page<Transaction> findByUserIdAndCategoryIdAndDateBetween(Long userId, Long categoryId, LocalDate startDate, LocalDate endDate, Pageable pageable);
+    @Modifying
+    @Query("update Transaction t set t.amount = :amount, t.type = :type, t.description = :description, " +
+            "t.date = :date, t.category = :category where t.id = :id and t.user.id = :userId")
+    int updateByIdAndUserId(@Param("id") Long id,
+                            @Param("userId") Long userId,
+                            @Param("amount") BigDecimal amount,
+                            @Param("type") TransactionType type,
+                            @Param("description") String description,
+                            @Param("date") LocalDate date,
+                            @Param("category") Category category);
 
-    Page<Transaction> findByUserIdAndTypeAndCategoryIdAndDateBetween(Long userId, TransactionType type, Long categoryId, LocalDate startDate, LocalDate endDate, Pageable pageable);
+    @Modifying
+    @Query("delete from Transaction t where t.id = :id and t.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 
-    Page<Transaction> findByUserIdAndTypeAndCategoryId(Long userId, TransactionType type, Long categoryId, Pageable pageable);
+    // Aggregates for the summary endpoints; a null start or end date leaves that side of the range open
+
+    @Query("select new com.yogendra.finance_tracker.dto.TypeTotalResponse(t.type, sum(t.amount), count(t)) " +
+            "from Transaction t where t.user.id = :userId " +
+            "and (:startDate is null or t.date >= :startDate) and (:endDate is null or t.date <= :endDate) " +
+            "group by t.type order by t.type")
+    List<TypeTotalResponse> sumByType(@Param("userId") Long userId,
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+
+    @Query("select new com.yogendra.finance_tracker.dto.CategoryTotalResponse(c.id, c.name, t.type, sum(t.amount), count(t)) " +
+            "from Transaction t left join t.category c where t.user.id = :userId " +
+            "and (:startDate is null or t.date >= :startDate) and (:endDate is null or t.date <= :endDate) " +
+            "group by c.id, c.name, t.type order by c.name, t.type")
+    List<CategoryTotalResponse> sumByCategory(@Param("userId") Long userId,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+
+    @Query("select new com.yogendra.finance_tracker.dto.MonthlyTotalResponse(year(t.date), month(t.date), t.type, sum(t.amount), count(t)) " +
+            "from Transaction t where t.user.id = :userId " +
+            "and (:startDate is null or t.date >= :startDate) and (:endDate is null or t.date <= :endDate) " +
+            "group by year(t.date), month(t.date), t.type order by year(t.date), month(t.date), t.type")
+    List<MonthlyTotalResponse> sumByMonth(@Param("userId") Long userId,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+
+    @Query("select t.category.id as categoryId, year(t.date) as periodYear, month(t.date) as periodMonth, " +
+            "t.type as type, sum(t.amount) as total, count(t) as count " +
+            "from Transaction t where t.user.id = :userId " +
+            "group by t.category.id, year(t.date), month(t.date), t.type")
+    List<MonthlyAggregate> aggregateByMonth(@Param("userId") Long userId);
+
+    // Bulk operations; every statement is scoped to the owner, so other users' ids are silently skipped.
+    // The affected rows are read and locked first, so the rollup deltas computed from them match
+    // exactly what the following statement deletes or moves.
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id as id, t.user.id as userId, t.category.id as categoryId, t.date as date, t.type as type, t.amount as amount " +
+            "from Transaction t where t.user.id = :userId and t.id in :ids")
+    List<TransactionSnapshot> findSnapshotsForUpdate(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from Transaction t where t.user.id = :userId and t.id in :ids")
+    int deleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Transaction t set t.category = :category where t.user.id = :userId and t.id in :ids")
+    int updateCategoryByUserIdAndIdIn(@Param("userId") Long userId,
+                                      @Param("ids") Collection<Long> ids,
+                                      @Param("category") Category category);
 }
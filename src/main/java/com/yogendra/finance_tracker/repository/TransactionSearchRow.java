@@ -0,0 +1,14 @@
+package com.yogendra.finance_tracker.repository;
+
+import com.yogendra.finance_tracker.model.TransactionType;
+
+import java.time.LocalDate;
+
+// Columns the in-process search index keeps per transaction
+public interface TransactionSearchRow {
+    Long getId();
+    String getDescription();
+    TransactionType getType();
+    Long getCategoryId();
+    LocalDate getDate();
+}
@@ -0,0 +1,16 @@
+package com.yogendra.finance_tracker.repository;
+
+import com.yogendra.finance_tracker.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Owner and rollup-relevant columns of a transaction, read without loading its associations
+public interface TransactionSnapshot {
+    Long getId();
+    Long getUserId();
+    Long getCategoryId();
+    LocalDate getDate();
+    TransactionType getType();
+    BigDecimal getAmount();
+}
@@ -0,0 +1,55 @@
+package com.yogendra.finance_tracker.repository;
+
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Predicates for filtering a user's transactions. {@link #withFilters} only adds the
+ * predicates for the filters that were actually supplied.
+ */
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {
+    }
+
+    public static Specification<Transaction> withFilters(Long userId, TransactionType type, Long categoryId,
+                                                         LocalDate startDate, LocalDate endDate) {
+        Specification<Transaction> spec = belongsTo(userId);
+        if (type != null) {
+            spec = spec.and(hasType(type));
+        }
+        if (categoryId != null) {
+            spec = spec.and(inCategory(categoryId));
+        }
+        if (startDate != null) {
+            spec = spec.and(onOrAfter(startDate));
+        }
+        if (endDate != null) {
+            spec = spec.and(onOrBefore(endDate));
+        }
+        return spec;
+    }
+
+    public static Specification<Transaction> belongsTo(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Transaction> hasType(TransactionType type) {
+        return (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Transaction> inCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Transaction> onOrAfter(LocalDate startDate) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), startDate);
+    }
+
+    public static Specification<Transaction> onOrBefore(LocalDate endDate) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), endDate);
+    }
+}
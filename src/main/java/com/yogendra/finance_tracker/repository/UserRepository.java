@@ -2,8 +2,25 @@ package com.yogendra.finance_tracker.repository;
 
 import com.yogendra.finance_tracker.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // data_version is not mapped on User, so saving a stale entity can never move it back
+    @Query(value = "select data_version from users where id = :userId", nativeQuery = true)
+    Optional<Long> findDataVersion(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "update users set data_version = data_version + 1 where id = :userId", nativeQuery = true)
+    int incrementDataVersion(@Param("userId") Long userId);
+
+    // Every write updates the user's row through incrementDataVersion, so holding this lock
+    // keeps that user's writes from committing until the caller's transaction ends
+    @Query(value = "select id from users where id = :userId for update", nativeQuery = true)
+    Optional<Long> lockById(@Param("userId") Long userId);
 }
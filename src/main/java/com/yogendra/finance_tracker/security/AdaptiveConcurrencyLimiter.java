@@ -0,0 +1,118 @@
+package com.yogendra.finance_tracker.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Global limit on requests in flight that adapts to response times. It keeps a long-term
+ * average of latency as the baseline and a short-term average of what requests see now; while
+ * the recent average stays within {@code rate-limit.concurrency.tolerance} times the baseline
+ * and the limit is actually in use, the limit grows, and once requests start queueing and slow
+ * down it shrinks in proportion, so excess load is turned away before latency collapses.
+ * All state is updated by compare-and-set.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private static final double SHORT_WINDOW = 10;
+    private static final double LONG_WINDOW = 600;
+    // Share of each new estimate applied to the limit
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicReference<State> state;
+
+    public AdaptiveConcurrencyLimiter(@Value("${rate-limit.concurrency.initial-limit:100}") int initialLimit,
+                                      @Value("${rate-limit.concurrency.min-limit:10}") int minLimit,
+                                      @Value("${rate-limit.concurrency.max-limit:1000}") int maxLimit,
+                                      @Value("${rate-limit.concurrency.tolerance:2.0}") double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.state = new AtomicReference<>(new State(clamp(initialLimit), 0, 0));
+    }
+
+    /**
+     * Admits a request if fewer than the current limit are in flight. Every admitted request
+     * must be followed by exactly one {@link #release(long)}.
+     */
+    public boolean tryAcquire() {
+        int limit = getLimit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Ends an admitted request.
+     *
+     * @param latencyNanos its response time, or a negative value if it should not count as a sample
+     */
+    public void release(long latencyNanos) {
+        int wasInFlight = inFlight.getAndDecrement();
+        if (latencyNanos >= 0) {
+            long latency = Math.max(1, latencyNanos);
+            state.updateAndGet(current -> sample(current, latency, wasInFlight));
+        }
+    }
+
+    public int getLimit() {
+        return (int) state.get().limit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("http.server.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Requests allowed in flight at once, adjusted to response times")
+                .register(registry);
+        Gauge.builder("http.server.concurrency.in.flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Admitted requests not yet completed")
+                .register(registry);
+    }
+
+    private double clamp(double limit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+
+    private State sample(State current, long latencyNanos, int wasInFlight) {
+        if (current.longLatency() == 0) {
+            return new State(current.limit(), latencyNanos, latencyNanos);
+        }
+        double shortLatency = current.shortLatency() + (latencyNanos - current.shortLatency()) / SHORT_WINDOW;
+        double longLatency = current.longLatency() + (latencyNanos - current.longLatency()) / LONG_WINDOW;
+        // Let the baseline follow latency back down after a slow period rather than staying inflated
+        if (longLatency > 2 * shortLatency) {
+            longLatency *= 0.95;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longLatency / shortLatency));
+        // Only grow a limit that is in use; a mostly idle server says nothing about its capacity
+        if (gradient == 1.0 && wasInFlight < current.limit() / 2) {
+            return new State(current.limit(), shortLatency, longLatency);
+        }
+        double estimate = current.limit() * gradient + Math.sqrt(current.limit());
+        double limit = clamp(current.limit() * (1 - SMOOTHING) + estimate * SMOOTHING);
+        return new State(limit, shortLatency, longLatency);
+    }
+
+    private record State(double limit, double shortLatency, double longLatency) {
+    }
+}
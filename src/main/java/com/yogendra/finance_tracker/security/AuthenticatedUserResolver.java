@@ -0,0 +1,32 @@
+package com.yogendra.finance_tracker.security;
+
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the id of the calling user from the current {@link Authentication}.
+ * Requests authenticated by {@link JwtAuthenticationFilter} carry a {@link UserPrincipal}
+ * and need no database access; any other authentication falls back to a lookup by email.
+ */
+@Component
+public class AuthenticatedUserResolver {
+
+    private final UserRepository userRepository;
+
+    @Autowired
+    public AuthenticatedUserResolver(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public Long getUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        User user = userRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        return user.getId();
+    }
+}
@@ -0,0 +1,72 @@
+package com.yogendra.finance_tracker.security;
+
+import java.util.List;
+
+/**
+ * API endpoints grouped by cost, each with its own per-user limits under
+ * {@code rate-limit.<group>.capacity} (burst size, 0 disables the limit) and
+ * {@code rate-limit.<group>.refill-per-second}.
+ */
+public enum EndpointGroup {
+
+    READ("read", 200, 50, true),
+    WRITE("write", 100, 20, true),
+    // Imports, exports, bulk edits and rebuilds: few requests, each doing a lot of work
+    BULK("bulk", 30, 1, false);
+
+    private static final List<String> BULK_PREFIXES = List.of(
+            "/api/transactions/import",
+            "/api/transactions/export",
+            "/api/transactions/bulk",
+            "/api/transactions/search/rebuild",
+            "/api/transactions/summary/rollups/rebuild",
+            "/api/balance/rebuild");
+
+    private final String key;
+    private final long defaultCapacity;
+    private final double defaultRefillPerSecond;
+    private final boolean latencySampled;
+
+    EndpointGroup(String key, long defaultCapacity, double defaultRefillPerSecond, boolean latencySampled) {
+        this.key = key;
+        this.defaultCapacity = defaultCapacity;
+        this.defaultRefillPerSecond = defaultRefillPerSecond;
+        this.latencySampled = latencySampled;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public long defaultCapacity() {
+        return defaultCapacity;
+    }
+
+    public double defaultRefillPerSecond() {
+        return defaultRefillPerSecond;
+    }
+
+    // Whether response times feed the adaptive concurrency limit; bulk requests are slow by design
+    public boolean isLatencySampled() {
+        return latencySampled;
+    }
+
+    /**
+     * Returns the group of an API request, or null for paths outside {@code /api}
+     * (actuator probes and API docs), which are never limited.
+     */
+    public static EndpointGroup of(String method, String path) {
+        if (!path.startsWith("/api/")) {
+            return null;
+        }
+        for (String prefix : BULK_PREFIXES) {
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) {
+                return BULK;
+            }
+        }
+        return switch (method) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+}
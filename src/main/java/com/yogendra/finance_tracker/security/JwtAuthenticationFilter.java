@@ -1,10 +1,12 @@
 package com.yogendra.finance_tracker.security;
 
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -29,11 +31,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String header = request.getHeader("Authorization");
         String token = null;
         String username = null;
+        Long userId = null;
 
         if (header != null && header.startsWith("Bearer ")) {
             token = header.substring(7);
             try {
-                username = jwtTokenProvider.getUsernameFromToken(token);
+                Claims claims = jwtTokenProvider.verifyToken(token);
+                username = claims.getSubject();
+                userId = jwtTokenProvider.getUserId(claims);
             } catch (Exception e) {
                 filterChain.doFilter(request, response); // Invalid token - skip
                 return;
@@ -41,8 +46,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtTokenProvider.validateToken(token)) {
+            UserDetails userDetails;
+            try {
+                userDetails = userDetailsService.loadUserByUsername(username);
+            } catch (UsernameNotFoundException e) {
+                filterChain.doFilter(request, response); // Account deleted - skip
+                return;
+            }
+            // Reject tokens whose user id no longer matches the account behind the email
+            boolean sameUser = userId == null
+                    || !(userDetails instanceof UserPrincipal principal)
+                    || userId.equals(principal.getId());
+            if (sameUser) {
                 UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(auth);
@@ -1,50 +1,172 @@
 package com.yogendra.finance_tracker.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
     private static final String JWT_SECRET = "your_super_long_secret_key_that_is_at_least_64_characters_long_1234567890";
     private static final long JWT_EXPIRATION = 86400000; // 1 day
+    private static final String USER_ID_CLAIM = "uid";
+    private static final long DEFAULT_CACHE_MAX_SIZE = 10_000;
 
     private final Key key;
+    private final JwtParser parser;
+    // Verified claims keyed by SHA-256 digest of the token; null when caching is disabled
+    private final Cache<String, Claims> verifiedTokens;
+    // Signature and expiry checks only; cache hits are reported by the cache metrics
+    private final Timer parseValid;
+    private final Timer parseInvalid;
+    private final Timer generation;
 
     public JwtTokenProvider() {
+        this(DEFAULT_CACHE_MAX_SIZE);
+    }
+
+    // Outside Spring the global registry has no backends, so the timers are no-ops
+    public JwtTokenProvider(long cacheMaxSize) {
+        this(cacheMaxSize, Metrics.globalRegistry);
+    }
+
+    @Autowired
+    public JwtTokenProvider(@Value("${jwt.verification-cache.max-size:10000}") long cacheMaxSize,
+                            MeterRegistry meterRegistry) {
         this.key = Keys.hmacShaKeyFor(JWT_SECRET.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = cacheMaxSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfter(new TokenExpiry())
+                        .recordStats()
+                        .build()
+                : null;
+        if (verifiedTokens != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerification");
+        }
+        this.parseValid = parseTimer(meterRegistry, "valid");
+        this.parseInvalid = parseTimer(meterRegistry, "invalid");
+        this.generation = Timer.builder("jwt.generation")
+                .description("Time to build and sign a token")
+                .register(meterRegistry);
+    }
+
+    private static Timer parseTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verification")
+                .description("Time to parse a token and verify its signature and expiry")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
-    public String generateToken(String username) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + JWT_EXPIRATION);
+    public String generateToken(String username, Long userId) {
+        return generation.record(() -> {
+            Date now = new Date();
+            Date expiryDate = new Date(now.getTime() + JWT_EXPIRATION);
 
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+            return Jwts.builder()
+                    .setSubject(username)
+                    .claim(USER_ID_CLAIM, userId)
+                    .setIssuedAt(now)
+                    .setExpiration(expiryDate)
+                    .signWith(key, SignatureAlgorithm.HS512)
+                    .compact();
+        });
+    }
+
+    /**
+     * Parses the token once, verifying its signature and expiry, and returns its claims.
+     * Tokens that were already verified are served from the cache until they expire.
+     *
+     * @throws JwtException if the token is malformed, expired or has an invalid signature
+     */
+    public Claims verifyToken(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parse(token);
+        verifiedTokens.put(digest, claims);
+        return claims;
+    }
+
+    private Claims parse(String token) {
+        long start = System.nanoTime();
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            parseValid.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return claims;
+        } catch (RuntimeException e) {
+            parseInvalid.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return verifyToken(token).getSubject();
+    }
+
+    // Returns null for tokens issued before the user id claim was added
+    public Long getUserIdFromToken(String token) {
+        return getUserId(verifyToken(token));
+    }
+
+    public Long getUserId(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return userId != null ? userId.longValue() : null;
     }
 
     public boolean validateToken(String authToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(authToken);
+            verifyToken(authToken);
             return true;
         } catch (Exception ex) {
             return false;
         }
     }
+
+    private static String digest(String token) {
+        return Base64.getEncoder().encodeToString(Sha256.hash(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    // Keeps each cached entry no longer than the token itself is valid
+    private static class TokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return TimeUnit.MILLISECONDS.toNanos(JWT_EXPIRATION);
+            }
+            long remaining = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
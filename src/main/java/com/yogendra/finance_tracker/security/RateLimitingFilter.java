@@ -0,0 +1,169 @@
+package com.yogendra.finance_tracker.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yogendra.finance_tracker.dto.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission control for the API, placed after {@link JwtAuthenticationFilter} so callers are
+ * known. Each authenticated user first spends a token from their bucket for the endpoint group
+ * (429 when empty), then the request needs a slot under the global adaptive concurrency limit
+ * (503 when the server is saturated). Both carry Retry-After. Anonymous requests (login and
+ * registration) only count against the concurrency limit; paths outside {@code /api} are exempt.
+ */
+@Component
+public class RateLimitingFilter extends OncePerRequestFilter {
+
+    private static final long OVERLOAD_RETRY_AFTER_SECONDS = 1;
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Map<EndpointGroup, Counter> rateLimited = new EnumMap<>(EndpointGroup.class);
+    private final Map<EndpointGroup, Counter> shed = new EnumMap<>(EndpointGroup.class);
+
+    @Autowired
+    public RateLimitingFilter(TokenBucketRateLimiter rateLimiter,
+                              AdaptiveConcurrencyLimiter concurrencyLimiter,
+                              ObjectMapper objectMapper,
+                              @Value("${rate-limit.enabled:true}") boolean enabled,
+                              MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        for (EndpointGroup group : EndpointGroup.values()) {
+            rateLimited.put(group, rejectedCounter(meterRegistry, group, "rate-limit"));
+            shed.put(group, rejectedCounter(meterRegistry, group, "overload"));
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, EndpointGroup group, String reason) {
+        return Counter.builder("http.server.requests.rejected")
+                .description("Requests turned away by the per-user rate limit or the concurrency limit")
+                .tag("group", group.key())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        EndpointGroup group = EndpointGroup.of(request.getMethod(), path);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Object caller = caller(SecurityContextHolder.getContext().getAuthentication());
+        if (caller != null) {
+            long waitNanos = rateLimiter.tryAcquire(caller, group);
+            if (waitNanos > 0) {
+                rateLimited.get(group).increment();
+                long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfter, "Rate limit exceeded; retry later");
+                return;
+            }
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            shed.get(group).increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, OVERLOAD_RETRY_AFTER_SECONDS,
+                    "Server is busy; retry later");
+            return;
+        }
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Streaming responses hold their slot until done, but their duration is not a sample
+                request.getAsyncContext().addListener(new ReleaseOnCompletion());
+            } else {
+                concurrencyLimiter.release(completed && group.isLatencySampled() ? System.nanoTime() - start : -1);
+            }
+        }
+    }
+
+    // User id for requests authenticated by the JWT filter, the name for other authentications
+    private static Object caller(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return authentication.getName();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(message));
+    }
+
+    private final class ReleaseOnCompletion implements AsyncListener {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimiter.release(-1);
+            }
+        }
+    }
+}
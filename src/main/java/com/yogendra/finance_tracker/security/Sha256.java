@@ -0,0 +1,27 @@
+package com.yogendra.finance_tracker.security;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 for cache keys and fingerprints (verified tokens, idempotent request bodies, ETags).
+ * Every JRE must provide the algorithm, so its absence is reported as an unchecked error.
+ */
+public final class Sha256 {
+
+    private Sha256() {
+    }
+
+    // A fresh digest for incremental updates; MessageDigest instances are not thread-safe
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static byte[] hash(byte[] input) {
+        return newDigest().digest(input);
+    }
+}
@@ -0,0 +1,123 @@
+package com.yogendra.finance_tracker.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user token buckets, one per {@link EndpointGroup}, so a caller exhausting its reads can
+ * still write. Buckets live in a bounded cache (hash-striped, with lock-free reads) and each is a
+ * single {@link AtomicLong} updated by compare-and-set, so callers never block one another.
+ * Buckets idle long enough to have refilled completely are dropped, which is the same as full.
+ */
+@Component
+public class TokenBucketRateLimiter implements MeterBinder {
+
+    private final Map<EndpointGroup, Limit> limits = new EnumMap<>(EndpointGroup.class);
+    private final Cache<BucketKey, Bucket> buckets;
+
+    public TokenBucketRateLimiter(Environment environment,
+                                  @Value("${rate-limit.buckets.max-size:100000}") long maxSize) {
+        Duration idle = Duration.ofMinutes(1);
+        for (EndpointGroup group : EndpointGroup.values()) {
+            String prefix = "rate-limit." + group.key() + ".";
+            Limit limit = new Limit(
+                    environment.getProperty(prefix + "capacity", Long.class, group.defaultCapacity()),
+                    environment.getProperty(prefix + "refill-per-second", Double.class, group.defaultRefillPerSecond()));
+            limits.put(group, limit);
+            if (limit.isEnabled() && limit.refillTime().compareTo(idle) > 0) {
+                idle = limit.refillTime();
+            }
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(idle)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Takes one token from the caller's bucket for the group.
+     *
+     * @return 0 if the request may proceed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(Object caller, EndpointGroup group) {
+        Limit limit = limits.get(group);
+        if (!limit.isEnabled()) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        Bucket bucket = buckets.get(new BucketKey(caller, group), key -> new Bucket(now));
+        return bucket.tryAcquire(limit, now);
+    }
+
+    public Limit limit(EndpointGroup group) {
+        return limits.get(group);
+    }
+
+    public void invalidateAll() {
+        buckets.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, buckets, "rateLimitBuckets");
+    }
+
+    public record Limit(long capacity, double refillPerSecond) {
+
+        boolean isEnabled() {
+            return capacity > 0 && refillPerSecond > 0;
+        }
+
+        long intervalNanos() {
+            return Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        }
+
+        Duration refillTime() {
+            return Duration.ofNanos(Math.multiplyExact(capacity, intervalNanos()));
+        }
+    }
+
+    private record BucketKey(Object caller, EndpointGroup group) {
+    }
+
+    /*
+     * Generic cell rate form of a token bucket: instead of a token count it stores the time at
+     * which the bucket will be full again. A request moves that time one refill interval forward
+     * and is allowed while it stays within capacity intervals of now.
+     */
+    private static final class Bucket {
+        private final AtomicLong fullAt;
+
+        Bucket(long now) {
+            this.fullAt = new AtomicLong(now);
+        }
+
+        long tryAcquire(Limit limit, long now) {
+            long interval = limit.intervalNanos();
+            long burst = limit.capacity() * interval;
+            while (true) {
+                long current = fullAt.get();
+                long next = Math.max(current, now) + interval;
+                long wait = next - now - burst;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.yogendra.finance_tracker.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of {@link UserDetails} keyed by email.
+ * Writers that change credentials or remove an account must call {@link #evict(String)}
+ * so the change is visible on the next request rather than after the TTL.
+ */
+@Component
+public class UserDetailsCache implements MeterBinder {
+
+    private final Cache<String, UserDetails> cache;
+    private final LongAdder invalidations = new LongAdder();
+
+    public UserDetailsCache(@Value("${security.user-details-cache.max-size:10000}") long maxSize,
+                            @Value("${security.user-details-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // Cached values are shared between requests, so they must not be erased after
+    // authentication; UserPrincipal deliberately does not implement CredentialsContainer.
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        return cache.get(email, loader);
+    }
+
+    /**
+     * Evicts the entry immediately and, when called inside a transaction, once more after
+     * commit so a concurrent request cannot re-cache the pre-commit row.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(email);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // Explicit evictions by writers; size and TTL evictions are reported in stats()
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "userDetails");
+        FunctionCounter.builder("security.user.details.cache.invalidations", invalidations, LongAdder::sum)
+                .description("Entries evicted explicitly after a credential change or account removal")
+                .register(registry);
+    }
+
+    private void invalidate(String email) {
+        cache.invalidate(email);
+        invalidations.increment();
+    }
+}
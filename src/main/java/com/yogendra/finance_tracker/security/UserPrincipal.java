@@ -0,0 +1,47 @@
+package com.yogendra.finance_tracker.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Authenticated principal that carries the user's id alongside the usual
+ * {@link UserDetails} fields, so controllers can resolve the caller without
+ * another lookup by email.
+ */
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final List<GrantedAuthority> authorities;
+
+    public UserPrincipal(Long id, String email, String password) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.authorities = AuthorityUtils.createAuthorityList("USER");
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+}
@@ -0,0 +1,19 @@
+package com.yogendra.finance_tracker.service;
+
+import com.yogendra.finance_tracker.dto.BalanceResponse;
+import com.yogendra.finance_tracker.dto.CategoryBalanceResponse;
+import com.yogendra.finance_tracker.dto.RollupRebuildResponse;
+import com.yogendra.finance_tracker.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface BalanceService {
+    // Must be called inside the transaction that writes the underlying rows; applied before it commits
+    void record(Long userId, Long categoryId, TransactionType type, BigDecimal amount, long count);
+
+    BalanceResponse getBalance(Long userId);
+    List<CategoryBalanceResponse> getCategoryBalances(Long userId);
+
+    RollupRebuildResponse rebuild(Long userId, boolean dryRun);
+}
@@ -1,8 +1,10 @@
 package com.yogendra.finance_tracker.service;
 
+import com.yogendra.finance_tracker.dto.BudgetStatusResponse;
 import com.yogendra.finance_tracker.dto.CategoryRequest;
 import com.yogendra.finance_tracker.model.Category;
 
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +14,5 @@ public interface CategoryService {
     Optional<Category> getCategoryByIdAndUserId(Long id, Long userId);
     Category updateCategory(Long id, CategoryRequest request, Long userId);
     void deleteCategory(Long id, Long userId);
+    List<BudgetStatusResponse> getBudgetStatus(Long userId, YearMonth month);
 }
@@ -0,0 +1,13 @@
+package com.yogendra.finance_tracker.service;
+
+/**
+ * Per-user version of the data behind the transaction and category listings. Every write to
+ * a user's transactions or categories advances it, so an unchanged version means an unchanged
+ * listing.
+ */
+public interface DataVersionService {
+    // Never returns a value issued before for a different state, including across restarts and instances
+    String currentVersion(Long userId);
+    // Joins the caller's transaction, so it takes effect when the write commits
+    void bumpVersion(Long userId);
+}
@@ -0,0 +1,30 @@
+package com.yogendra.finance_tracker.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a write at most once per user and {@code Idempotency-Key}. The first successful response is
+ * kept for {@code idempotency.ttl} and handed to every retry, and concurrent duplicates wait for the
+ * first one instead of running the write again.
+ */
+public interface IdempotencyService {
+
+    /**
+     * A response as replayed to retries. Only 2xx responses are stored; anything else lets the
+     * client retry the write.
+     */
+    record StoredResponse(int status, String location, String body) {
+        public boolean isSuccessful() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    /**
+     * Returns the stored response for the key, or runs {@code action} and stores its response.
+     *
+     * @param requestHash digest of the request; a stored response is only replayed for the same request
+     * @throws com.yogendra.finance_tracker.exception.IdempotencyKeyException if the key was used for a
+     *         different request or another instance is still running the first one
+     */
+    StoredResponse execute(Long userId, String key, String requestHash, Supplier<StoredResponse> action);
+}
@@ -0,0 +1,22 @@
+package com.yogendra.finance_tracker.service;
+
+import com.yogendra.finance_tracker.dto.RollupRebuildResponse;
+import com.yogendra.finance_tracker.model.MonthlyRollupKey;
+import com.yogendra.finance_tracker.repository.MonthlyAggregate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface MonthlyRollupService {
+    // Must be called inside the transaction that writes the underlying row
+    void add(MonthlyRollupKey key, BigDecimal amount);
+    void add(MonthlyRollupKey key, BigDecimal amount, long count);
+    void subtract(MonthlyRollupKey key, BigDecimal amount);
+    void move(MonthlyRollupKey oldKey, BigDecimal oldAmount, MonthlyRollupKey newKey, BigDecimal newAmount);
+
+    // Bulk variants, taking the affected rows grouped by category, month and type
+    void subtractAll(Long userId, List<MonthlyAggregate> aggregates);
+    void moveAll(Long userId, List<MonthlyAggregate> aggregates, Long newCategoryId);
+
+    RollupRebuildResponse rebuild(Long userId, boolean dryRun);
+}
@@ -0,0 +1,29 @@
+package com.yogendra.finance_tracker.service;
+
+import com.yogendra.finance_tracker.dto.RecurringTransactionRequest;
+import com.yogendra.finance_tracker.model.RecurringTransaction;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecurringTransactionService {
+    /**
+     * Saves the template and posts any occurrences already due, e.g. a salary backdated to January.
+     */
+    RecurringTransaction createRecurringTransaction(RecurringTransactionRequest request, Long userId);
+    List<RecurringTransaction> getRecurringTransactions(Long userId);
+    Optional<RecurringTransaction> getRecurringTransaction(Long id, Long userId);
+    /**
+     * Stops the schedule; transactions already posted are kept.
+     */
+    void deleteRecurringTransaction(Long id, Long userId);
+
+    /**
+     * Posts every occurrence due on or before {@code today} for all users, one worker per
+     * partition. Safe to run concurrently with itself and on several instances.
+     *
+     * @return number of transactions posted
+     */
+    long materializeDue(LocalDate today);
+}
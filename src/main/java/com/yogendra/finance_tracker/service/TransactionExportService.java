@@ -0,0 +1,21 @@
+package com.yogendra.finance_tracker.service;
+
+import com.yogendra.finance_tracker.dto.TransactionFileFormat;
+import com.yogendra.finance_tracker.model.TransactionType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface TransactionExportService {
+    // Writes every matching transaction, newest first, without holding the result set in memory
+    void exportTransactions(
+            Long userId,
+            TransactionType type,
+            Long categoryId,
+            LocalDate startDate,
+            LocalDate endDate,
+            TransactionFileFormat format,
+            OutputStream out
+    ) throws IOException;
+}
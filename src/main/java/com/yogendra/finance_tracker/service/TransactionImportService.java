@@ -0,0 +1,11 @@
+package com.yogendra.finance_tracker.service;
+
+import com.yogendra.finance_tracker.dto.TransactionFileFormat;
+import com.yogendra.finance_tracker.dto.ImportResultResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface TransactionImportService {
+    ImportResultResponse importTransactions(Long userId, InputStream body, TransactionFileFormat format) throws IOException;
+}
@@ -0,0 +1,29 @@
+package com.yogendra.finance_tracker.service;
+
+import com.yogendra.finance_tracker.dto.IngestionStatusResponse;
+import com.yogendra.finance_tracker.model.Transaction;
+
+import java.util.Optional;
+
+/**
+ * Asynchronous transaction creation: accepted transactions are queued in memory and written
+ * in batches by a background writer.
+ */
+public interface TransactionIngestionService {
+    /**
+     * False when the mode is disabled or the application is shutting down.
+     */
+    boolean isAccepting();
+
+    /**
+     * Queues an already validated transaction whose category ownership has been checked.
+     *
+     * @return the PENDING status to hand back to the client, or empty when the queue is full
+     */
+    Optional<IngestionStatusResponse> submit(Transaction transaction, Long userId);
+
+    /**
+     * Status of a queued transaction, if the tracking id belongs to the user and has not expired.
+     */
+    Optional<IngestionStatusResponse> getStatus(String trackingId, Long userId);
+}
@@ -0,0 +1,21 @@
+package com.yogendra.finance_tracker.service;
+
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.model.TransactionType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+
+public interface TransactionSearchService {
+    /**
+     * Full-text search over descriptions, ranked by relevance; the pageable's sort is ignored.
+     */
+    Page<TransactionResponse> search(Long userId, String query, TransactionType type, Long categoryId,
+                                     LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    /**
+     * Rebuilds the user's search index from the table and returns the number of indexed transactions.
+     */
+    int rebuild(Long userId);
+}
@@ -1,20 +1,25 @@
 package com.yogendra.finance_tracker.service;
 
+import com.yogendra.finance_tracker.dto.CursorPageResponse;
+import com.yogendra.finance_tracker.dto.TransactionCursor;
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.model.Category;
 import com.yogendra.finance_tracker.model.Transaction;
 import com.yogendra.finance_tracker.model.TransactionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Optional;
 
 public interface TransactionService {
     Transaction createTransaction(Transaction transaction, Long userId);
 
-    Optional<Transaction> getTransactionById(Long id, Long userId);
+    Optional<TransactionResponse> getTransactionById(Long id, Long userId);
     Transaction updateTransaction(Long id, Transaction transactionDetails, Long userId);
     void deleteTransaction(Long id, Long userId);
-    Page<Transaction> getTransactionsWithFilters(
+    Page<TransactionResponse> getTransactionsWithFilters(
             Long userId,
             TransactionType type,
             Long categoryId,
@@ -22,4 +27,26 @@ public interface TransactionService {
             LocalDate endDate,
             Pageable pageable
     );
+
+    // Keyset pagination ordered by (date, id) descending; a null cursor starts from the newest row
+    CursorPageResponse<TransactionResponse> scrollTransactionsWithFilters(
+            Long userId,
+            TransactionType type,
+            Long categoryId,
+            LocalDate startDate,
+            LocalDate endDate,
+            TransactionCursor cursor,
+            int size
+    );
+
+    // Bulk operations run as single ownership-scoped statements and return the number of affected rows
+    int deleteTransactions(Collection<Long> ids, Long userId);
+    int deleteTransactionsWithFilters(
+            Long userId,
+            TransactionType type,
+            Long categoryId,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+    int moveTransactions(Collection<Long> ids, Category category, Long userId);
 }
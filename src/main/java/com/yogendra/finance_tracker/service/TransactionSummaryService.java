@@ -0,0 +1,14 @@
+package com.yogendra.finance_tracker.service;
+
+import com.yogendra.finance_tracker.dto.CategoryTotalResponse;
+import com.yogendra.finance_tracker.dto.MonthlyTotalResponse;
+import com.yogendra.finance_tracker.dto.TypeTotalResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TransactionSummaryService {
+    List<TypeTotalResponse> getTotalsByType(Long userId, LocalDate startDate, LocalDate endDate);
+    List<CategoryTotalResponse> getTotalsByCategory(Long userId, LocalDate startDate, LocalDate endDate);
+    List<MonthlyTotalResponse> getTotalsByMonth(Long userId, LocalDate startDate, LocalDate endDate);
+}
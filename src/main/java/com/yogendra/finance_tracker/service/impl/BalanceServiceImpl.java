@@ -0,0 +1,234 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.yogendra.finance_tracker.dto.BalanceResponse;
+import com.yogendra.finance_tracker.dto.CategoryBalanceResponse;
+import com.yogendra.finance_tracker.dto.RollupRebuildResponse;
+import com.yogendra.finance_tracker.model.AccountBalance;
+import com.yogendra.finance_tracker.model.CategoryBalance;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.repository.AccountBalanceRepository;
+import com.yogendra.finance_tracker.repository.CategoryBalanceRepository;
+import com.yogendra.finance_tracker.repository.MonthlyAggregate;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.service.BalanceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Deltas recorded during a transaction are netted per user and category and written just
+ * before it commits, so a write that touches the same balance several times (an update, a
+ * batch import) costs one upsert per balance row. Rows are always written in key order,
+ * which keeps concurrent writers for the same user from deadlocking.
+ */
+@Service
+public class BalanceServiceImpl implements BalanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceServiceImpl.class);
+
+    private final AccountBalanceRepository accountBalanceRepository;
+    private final CategoryBalanceRepository categoryBalanceRepository;
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+
+    @Autowired
+    public BalanceServiceImpl(AccountBalanceRepository accountBalanceRepository,
+                              CategoryBalanceRepository categoryBalanceRepository,
+                              TransactionRepository transactionRepository,
+                              UserRepository userRepository) {
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.categoryBalanceRepository = categoryBalanceRepository;
+        this.transactionRepository = transactionRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long userId, Long categoryId, TransactionType type, BigDecimal amount, long count) {
+        PendingBalances pending = pendingBalances();
+        pending.accounts.computeIfAbsent(userId, key -> new Totals()).add(type, amount, count);
+        if (categoryId != null) {
+            pending.categories.computeIfAbsent(userId, key -> new TreeMap<>())
+                    .computeIfAbsent(categoryId, key -> new Totals()).add(type, amount, count);
+        }
+    }
+
+    // Found among the synchronizations rather than bound as a resource, so it follows suspension
+    private PendingBalances pendingBalances() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingBalances pending) {
+                return pending;
+            }
+        }
+        PendingBalances pending = new PendingBalances();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void writePending(PendingBalances pending) {
+        for (Map.Entry<Long, Totals> account : pending.accounts.entrySet()) {
+            Long userId = account.getKey();
+            Totals totals = account.getValue();
+            if (!totals.isZero()) {
+                accountBalanceRepository.applyDelta(userId, totals.income, totals.expense, totals.count);
+            }
+            for (Map.Entry<Long, Totals> category : pending.categories.getOrDefault(userId, new TreeMap<>()).entrySet()) {
+                Totals categoryTotals = category.getValue();
+                if (!categoryTotals.isZero()) {
+                    categoryBalanceRepository.applyDelta(userId, category.getKey(),
+                            categoryTotals.income, categoryTotals.expense, categoryTotals.count);
+                }
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BalanceResponse getBalance(Long userId) {
+        return accountBalanceRepository.findById(userId)
+                .map(balance -> new BalanceResponse(balance.getIncome(), balance.getExpense(), balance.getCount()))
+                .orElseGet(() -> new BalanceResponse(BigDecimal.ZERO, BigDecimal.ZERO, 0L));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryBalanceResponse> getCategoryBalances(Long userId) {
+        return categoryBalanceRepository.findResponsesByUserId(userId);
+    }
+
+    /**
+     * Recomputes the user's balances from raw transactions and compares them with the stored rows.
+     * Unless {@code dryRun} is set, mismatching rows are overwritten with the recomputed totals.
+     * As with rollup repairs the user's row is locked first. A write in flight bumps the data
+     * version before its balance deltas are written, so it waits and then applies them on top.
+     */
+    @Override
+    @Transactional
+    public RollupRebuildResponse rebuild(Long userId, boolean dryRun) {
+        if (userRepository.lockById(userId).isEmpty()) {
+            throw new IllegalArgumentException("User not found with id: " + userId);
+        }
+
+        Totals expectedAccount = new Totals();
+        Map<Long, Totals> expectedCategories = new HashMap<>();
+        for (MonthlyAggregate aggregate : transactionRepository.aggregateByMonth(userId)) {
+            expectedAccount.add(aggregate.getType(), aggregate.getTotal(), aggregate.getCount());
+            if (aggregate.getCategoryId() != null) {
+                expectedCategories.computeIfAbsent(aggregate.getCategoryId(), key -> new Totals())
+                        .add(aggregate.getType(), aggregate.getTotal(), aggregate.getCount());
+            }
+        }
+
+        AccountBalance account = accountBalanceRepository.findById(userId).orElse(null);
+        Map<Long, CategoryBalance> categories = new HashMap<>();
+        for (CategoryBalance balance : categoryBalanceRepository.findByUserId(userId)) {
+            categories.put(balance.getCategoryId(), balance);
+        }
+        int rowsBefore = categories.size() + (account != null ? 1 : 0);
+
+        int mismatches = 0;
+        boolean accountMismatch = !expectedAccount.matches(account != null ? account.getIncome() : null,
+                account != null ? account.getExpense() : null, account != null ? account.getCount() : null);
+        if (accountMismatch) {
+            mismatches++;
+        }
+        Map<Long, Totals> categoryMismatches = new HashMap<>();
+        Set<Long> categoryIds = new TreeSet<>(expectedCategories.keySet());
+        categoryIds.addAll(categories.keySet());
+        for (Long categoryId : categoryIds) {
+            Totals expected = expectedCategories.getOrDefault(categoryId, new Totals());
+            CategoryBalance stored = categories.get(categoryId);
+            if (!expected.matches(stored != null ? stored.getIncome() : null,
+                    stored != null ? stored.getExpense() : null, stored != null ? stored.getCount() : null)) {
+                categoryMismatches.put(categoryId, expected);
+            }
+        }
+        mismatches += categoryMismatches.size();
+
+        boolean repair = !dryRun && mismatches > 0;
+        int rowsAfter = rowsBefore;
+        if (repair) {
+            if (accountMismatch) {
+                if (account == null) {
+                    account = new AccountBalance();
+                    account.setUserId(userId);
+                    rowsAfter++;
+                }
+                account.setIncome(expectedAccount.income);
+                account.setExpense(expectedAccount.expense);
+                account.setCount(expectedAccount.count);
+                accountBalanceRepository.save(account);
+            }
+            for (Map.Entry<Long, Totals> entry : categoryMismatches.entrySet()) {
+                CategoryBalance balance = categories.get(entry.getKey());
+                if (balance == null) {
+                    balance = new CategoryBalance();
+                    balance.setUserId(userId);
+                    balance.setCategoryId(entry.getKey());
+                    rowsAfter++;
+                }
+                balance.setIncome(entry.getValue().income);
+                balance.setExpense(entry.getValue().expense);
+                balance.setCount(entry.getValue().count);
+                categoryBalanceRepository.save(balance);
+            }
+            logger.info("Repaired {} balance mismatches for user id: {}", mismatches, userId);
+        }
+        return new RollupRebuildResponse(userId, rowsBefore, rowsAfter, mismatches, repair);
+    }
+
+    private static class Totals {
+        private BigDecimal income = BigDecimal.ZERO;
+        private BigDecimal expense = BigDecimal.ZERO;
+        private long count;
+
+        void add(TransactionType type, BigDecimal amount, long count) {
+            if (type == TransactionType.INCOME) {
+                income = income.add(amount);
+            } else {
+                expense = expense.add(amount);
+            }
+            this.count += count;
+        }
+
+        boolean isZero() {
+            return income.signum() == 0 && expense.signum() == 0 && count == 0;
+        }
+
+        // A missing row matches all-zero totals
+        boolean matches(BigDecimal storedIncome, BigDecimal storedExpense, Long storedCount) {
+            if (storedIncome == null) {
+                return isZero();
+            }
+            return income.compareTo(storedIncome) == 0
+                    && expense.compareTo(storedExpense) == 0
+                    && Objects.equals(count, storedCount);
+        }
+    }
+
+    // Per-transaction accumulator, keyed by user id and then category id for a stable write order
+    private class PendingBalances implements TransactionSynchronization {
+        private final Map<Long, Totals> accounts = new TreeMap<>();
+        private final Map<Long, Map<Long, Totals>> categories = new TreeMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            writePending(this);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yogendra.finance_tracker.model.Category;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-based cache of categories by id and of each user's category list.
+ * Entries are immutable snapshots rather than entities, so a cached value is never tied to a
+ * closed persistence context or shared mutably between requests. Writers must call
+ * {@link #evict(Long, Long)}; the TTL only bounds staleness after out-of-band changes.
+ */
+@Component
+public class CategoryCache implements MeterBinder {
+
+    private final Cache<Long, CachedCategory> byId;
+    private final Cache<Long, List<CachedCategory>> byUser;
+
+    public CategoryCache(@Value("${categories.cache.max-size:10000}") long maxSize,
+                         @Value("${categories.cache.ttl:10m}") Duration ttl) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.byUser = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // Misses are not cached, so a category created after a failed lookup is found immediately
+    public Optional<CachedCategory> get(Long id, Function<Long, Optional<Category>> loader) {
+        CachedCategory cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<CachedCategory> loaded = loader.apply(id).map(CachedCategory::of);
+        loaded.ifPresent(category -> byId.put(id, category));
+        return loaded;
+    }
+
+    public List<CachedCategory> getByUser(Long userId, Supplier<List<Category>> loader) {
+        return byUser.get(userId, key -> {
+            List<CachedCategory> categories = loader.get().stream().map(CachedCategory::of).toList();
+            categories.forEach(category -> byId.put(category.id(), category));
+            return categories;
+        });
+    }
+
+    /**
+     * Evicts the category (when {@code id} is not null) and the owner's list immediately and,
+     * inside a transaction, once more after commit so a concurrent read cannot re-cache the
+     * pre-commit rows.
+     */
+    public void evict(Long id, Long userId) {
+        invalidate(id, userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(id, userId);
+                }
+            });
+        }
+    }
+
+    // Removes everything cached for an account that is being deleted
+    public void evictUser(Long userId) {
+        byId.asMap().values().removeIf(category -> category.userId().equals(userId));
+        byUser.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        byId.invalidateAll();
+        byUser.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, byId, "categories");
+        bind(registry, byUser, "userCategories");
+    }
+
+    private static void bind(MeterRegistry registry, Cache<Long, ?> cache, String name) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Fraction of lookups served from the cache since startup")
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private void invalidate(Long id, Long userId) {
+        if (id != null) {
+            byId.invalidate(id);
+        }
+        byUser.invalidate(userId);
+    }
+
+    public record CachedCategory(Long id, String name, String color, BigDecimal monthlyBudget, Long userId) {
+
+        static CachedCategory of(Category category) {
+            return new CachedCategory(category.getId(), category.getName(), category.getColor(),
+                    category.getMonthlyBudget(), category.getUser().getId());
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.yogendra.finance_tracker.service.impl;
 
+import com.yogendra.finance_tracker.dto.BudgetStatusResponse;
 import com.yogendra.finance_tracker.dto.CategoryRequest;
 import com.yogendra.finance_tracker.model.Category;
 import com.yogendra.finance_tracker.model.User;
 import com.yogendra.finance_tracker.repository.CategoryRepository;
 import com.yogendra.finance_tracker.repository.UserRepository;
 import com.yogendra.finance_tracker.service.CategoryService;
+import com.yogendra.finance_tracker.service.DataVersionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,45 +21,89 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final CategoryCache categoryCache;
+    private final DataVersionService dataVersionService;
 
     @Autowired
-    public CategoryServiceImpl(CategoryRepository categoryRepository, UserRepository userRepository) {
+    public CategoryServiceImpl(CategoryRepository categoryRepository, UserRepository userRepository,
+                               CategoryCache categoryCache, DataVersionService dataVersionService) {
         this.categoryRepository = categoryRepository;
         this.userRepository = userRepository;
+        this.categoryCache = categoryCache;
+        this.dataVersionService = dataVersionService;
     }
 
     @Override
+    @Transactional
     public Category createCategory(CategoryRequest request, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
         Category category = new Category();
         category.setName(request.getName());
+        category.setMonthlyBudget(request.getMonthlyBudget());
         category.setUser(user);
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        categoryCache.evict(null, userId);
+        dataVersionService.bumpVersion(userId);
+        return saved;
     }
 
     @Override
     public List<Category> getCategoriesByUserId(Long userId) {
-        return categoryRepository.findByUserId(userId);
+        User user = userRepository.getReferenceById(userId);
+        return categoryCache.getByUser(userId, () -> categoryRepository.findByUserId(userId)).stream()
+                .map(cached -> toEntity(cached, user))
+                .toList();
     }
 
     @Override
     public Optional<Category> getCategoryByIdAndUserId(Long id, Long userId) {
-        return categoryRepository.findByIdAndUserId(id, userId);
+        if (id == null) {
+            return Optional.empty();
+        }
+        // Cached by id alone; ownership is checked against the snapshot
+        return categoryCache.get(id, categoryRepository::findById)
+                .filter(cached -> cached.userId().equals(userId))
+                .map(cached -> toEntity(cached, userRepository.getReferenceById(userId)));
     }
 
     @Override
+    @Transactional
     public Category updateCategory(Long id, CategoryRequest request, Long userId) {
         Category category = categoryRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found or does not belong to user"));
         category.setName(request.getName());
-        return categoryRepository.save(category);
+        category.setMonthlyBudget(request.getMonthlyBudget());
+        Category saved = categoryRepository.save(category);
+        categoryCache.evict(id, userId);
+        dataVersionService.bumpVersion(userId);
+        return saved;
     }
 
     @Override
+    @Transactional
     public void deleteCategory(Long id, Long userId) {
         Category category = categoryRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found or does not belong to user"));
         categoryRepository.delete(category);
+        categoryCache.evict(id, userId);
+        dataVersionService.bumpVersion(userId);
+    }
+
+    // Spend is maintained incrementally in the monthly rollups, so this never scans transactions
+    @Override
+    public List<BudgetStatusResponse> getBudgetStatus(Long userId, YearMonth month) {
+        return categoryRepository.findBudgetStatus(userId, month.atDay(1));
+    }
+
+    // Detached copy for callers; the user is an uninitialized reference, only its id is read
+    private static Category toEntity(CategoryCache.CachedCategory cached, User user) {
+        Category category = new Category();
+        category.setId(cached.id());
+        category.setName(cached.name());
+        category.setColor(cached.color());
+        category.setMonthlyBudget(cached.monthlyBudget());
+        category.setUser(user);
+        return category;
     }
 }
@@ -0,0 +1,38 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.service.DataVersionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the version in {@code users.data_version}, so every instance sees the same value and
+ * it survives restarts. Reading it is a primary-key lookup.
+ */
+@Service
+public class DataVersionServiceImpl implements DataVersionService {
+
+    private final UserRepository userRepository;
+
+    @Autowired
+    public DataVersionServiceImpl(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String currentVersion(Long userId) {
+        return Long.toHexString(userRepository.findDataVersion(userId).orElse(0L));
+    }
+
+    /**
+     * Incremented in the caller's transaction, so readers see the new version together with
+     * the rows that changed and a rolled back write leaves it untouched.
+     */
+    @Override
+    @Transactional
+    public void bumpVersion(Long userId) {
+        userRepository.incrementDataVersion(userId);
+    }
+}
@@ -0,0 +1,258 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yogendra.finance_tracker.exception.IdempotencyKeyException;
+import com.yogendra.finance_tracker.model.IdempotencyRecord;
+import com.yogendra.finance_tracker.repository.IdempotencyRecordRepository;
+import com.yogendra.finance_tracker.service.IdempotencyService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Responses are kept in a bounded local cache in front of the idempotency_record table. The table
+ * makes a key visible to every instance and survives restarts; if it cannot be reached the local
+ * cache alone still deduplicates retries that reach this instance. Duplicates arriving while the
+ * first request runs wait on it in-process, and across instances the first request's claim row
+ * turns them away with 409. A claim is a lease of {@code idempotency.claim-ttl}: one left behind
+ * by a crashed instance is released by the next request with the key. The write and the stored
+ * response commit in one transaction, so a claim is never completed without its write or vice versa.
+ */
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+    private static final int MAX_BODY_LENGTH = 4000;
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration claimTtl;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Key, Stored> completed;
+    private final ConcurrentMap<Key, CompletableFuture<Stored>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IdempotencyServiceImpl(IdempotencyRecordRepository repository,
+                                  @Value("${idempotency.ttl:24h}") Duration ttl,
+                                  @Value("${idempotency.cache.max-size:100000}") long maxSize,
+                                  @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout,
+                                  @Value("${idempotency.claim-ttl:1m}") Duration claimTtl,
+                                  PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.claimTtl = claimTtl;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public StoredResponse execute(Long userId, String key, String requestHash, Supplier<StoredResponse> action) {
+        Key cacheKey = new Key(userId, key);
+        while (true) {
+            Stored cached = completed.getIfPresent(cacheKey);
+            if (cached != null) {
+                return cached.replayFor(requestHash);
+            }
+            CompletableFuture<Stored> mine = new CompletableFuture<>();
+            CompletableFuture<Stored> running = inFlight.putIfAbsent(cacheKey, mine);
+            if (running != null) {
+                Stored first = await(running);
+                if (first != null) {
+                    return first.replayFor(requestHash);
+                }
+                // The first request stored nothing, so this one may run the write itself
+                continue;
+            }
+            Stored outcome = null;
+            try {
+                outcome = runFirst(cacheKey, requestHash, action);
+                return outcome.replayFor(requestHash);
+            } finally {
+                mine.complete(outcome != null && outcome.response().isSuccessful() ? outcome : null);
+                inFlight.remove(cacheKey, mine);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        completed.invalidateAll();
+    }
+
+    @Scheduled(initialDelayString = "${idempotency.purge-interval:PT1H}", fixedDelayString = "${idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        int purged = repository.deleteCreatedBefore(now().minus(ttl));
+        if (purged > 0) {
+            logger.info("Purged {} expired idempotency records", purged);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, completed, "idempotency");
+    }
+
+    private Stored runFirst(Key key, String requestHash, Supplier<StoredResponse> action) {
+        Optional<Stored> persisted = findPersisted(key);
+        if (persisted.isPresent()) {
+            completed.put(key, persisted.get());
+            return persisted.get();
+        }
+        LocalDateTime claimedAt = claim(key, requestHash);
+        Stored stored;
+        try {
+            stored = transactionTemplate.execute(status -> runAndComplete(key, requestHash, claimedAt, action));
+        } catch (RuntimeException e) {
+            if (claimedAt != null) {
+                release(key, claimedAt);
+            }
+            throw e;
+        }
+        if (!isStorable(stored.response())) {
+            if (claimedAt != null) {
+                release(key, claimedAt);
+            }
+            return stored;
+        }
+        completed.put(key, stored);
+        return stored;
+    }
+
+    // Runs inside the transaction the action's own writes join
+    private Stored runAndComplete(Key key, String requestHash, LocalDateTime claimedAt, Supplier<StoredResponse> action) {
+        StoredResponse response = action.get();
+        if (claimedAt != null && isStorable(response)
+                && repository.complete(key.userId(), key.key(), claimedAt,
+                        response.status(), response.location(), response.body()) == 0) {
+            // The lease ran out and another request took the key over; roll this write back
+            throw new IdempotencyKeyException(HttpStatus.CONFLICT,
+                    "A request with this Idempotency-Key is still being processed");
+        }
+        return new Stored(requestHash, response);
+    }
+
+    private static boolean isStorable(StoredResponse response) {
+        return response.isSuccessful() && (response.body() == null || response.body().length() <= MAX_BODY_LENGTH);
+    }
+
+    // A completed, unexpired row is replayed; a pending one belongs to a request running elsewhere
+    private Optional<Stored> findPersisted(Key key) {
+        Optional<IdempotencyRecord> row;
+        try {
+            row = repository.findById(new IdempotencyRecord.Key(key.userId(), key.key()));
+        } catch (DataAccessException e) {
+            logger.warn("Idempotency store unavailable; falling back to the local cache", e);
+            return Optional.empty();
+        }
+        if (row.isEmpty()) {
+            return Optional.empty();
+        }
+        IdempotencyRecord record = row.get();
+        LocalDateTime now = now();
+        boolean expired = record.getCreatedAt().isBefore(now.minus(ttl));
+        boolean abandoned = record.getStatusCode() == null && record.getCreatedAt().isBefore(now.minus(claimTtl));
+        if (expired || abandoned) {
+            releaseStale(key, now);
+            return Optional.empty();
+        }
+        if (record.getStatusCode() == null) {
+            throw new IdempotencyKeyException(HttpStatus.CONFLICT,
+                    "A request with this Idempotency-Key is still being processed");
+        }
+        return Optional.of(new Stored(record.getRequestHash(),
+                new StoredResponse(record.getStatusCode(), record.getLocation(), record.getResponseBody())));
+    }
+
+    // The claim's timestamp, which identifies it; null when the store is unavailable, in which case
+    // only the local cache protects the key
+    private LocalDateTime claim(Key key, String requestHash) {
+        LocalDateTime claimedAt = now();
+        try {
+            repository.insertClaim(key.userId(), key.key(), requestHash, claimedAt);
+            return claimedAt;
+        } catch (DataIntegrityViolationException e) {
+            throw new IdempotencyKeyException(HttpStatus.CONFLICT,
+                    "A request with this Idempotency-Key is still being processed");
+        } catch (DataAccessException e) {
+            logger.warn("Could not claim idempotency key; falling back to the local cache", e);
+            return null;
+        }
+    }
+
+    private void release(Key key, LocalDateTime claimedAt) {
+        try {
+            repository.release(key.userId(), key.key(), claimedAt);
+        } catch (DataAccessException e) {
+            logger.warn("Could not release idempotency key", e);
+        }
+    }
+
+    private void releaseStale(Key key, LocalDateTime now) {
+        try {
+            repository.releaseStale(key.userId(), key.key(), now.minus(ttl), now.minus(claimTtl));
+        } catch (DataAccessException e) {
+            logger.warn("Could not release idempotency key", e);
+        }
+    }
+
+    private Stored await(CompletableFuture<Stored> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyException(HttpStatus.CONFLICT, "Interrupted while waiting for the first request");
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IdempotencyKeyException(HttpStatus.CONFLICT,
+                    "A request with this Idempotency-Key is still being processed");
+        }
+    }
+
+    // Truncated to the column's precision, so a claim can be matched by its timestamp
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private record Key(Long userId, String key) {
+    }
+
+    private record Stored(String requestHash, StoredResponse response) {
+
+        StoredResponse replayFor(String requestHash) {
+            if (!this.requestHash.equals(requestHash)) {
+                throw new IdempotencyKeyException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Idempotency-Key was already used with a different request");
+            }
+            return response;
+        }
+    }
+}
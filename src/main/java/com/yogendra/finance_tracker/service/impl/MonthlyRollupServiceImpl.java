@@ -0,0 +1,190 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.yogendra.finance_tracker.dto.RollupRebuildResponse;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.MonthlyRollup;
+import com.yogendra.finance_tracker.model.MonthlyRollupKey;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.CategoryRepository;
+import com.yogendra.finance_tracker.repository.MonthlyAggregate;
+import com.yogendra.finance_tracker.repository.MonthlyRollupRepository;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.service.BalanceService;
+import com.yogendra.finance_tracker.service.MonthlyRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class MonthlyRollupServiceImpl implements MonthlyRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonthlyRollupServiceImpl.class);
+
+    private final MonthlyRollupRepository rollupRepository;
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final BalanceService balanceService;
+
+    @Autowired
+    public MonthlyRollupServiceImpl(MonthlyRollupRepository rollupRepository,
+                                    TransactionRepository transactionRepository,
+                                    UserRepository userRepository,
+                                    CategoryRepository categoryRepository,
+                                    BalanceService balanceService) {
+        this.rollupRepository = rollupRepository;
+        this.transactionRepository = transactionRepository;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.balanceService = balanceService;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(MonthlyRollupKey key, BigDecimal amount) {
+        apply(key, amount, 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(MonthlyRollupKey key, BigDecimal amount, long count) {
+        apply(key, amount, count);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtract(MonthlyRollupKey key, BigDecimal amount) {
+        apply(key, amount.negate(), -1);
+        rollupRepository.deleteEmpty(key.userId());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void move(MonthlyRollupKey oldKey, BigDecimal oldAmount, MonthlyRollupKey newKey, BigDecimal newAmount) {
+        if (oldKey.equals(newKey)) {
+            // Same row: only the amount changes, in a single statement
+            if (oldAmount.compareTo(newAmount) != 0) {
+                apply(newKey, newAmount.subtract(oldAmount), 0);
+            }
+            return;
+        }
+        subtract(oldKey, oldAmount);
+        add(newKey, newAmount);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtractAll(Long userId, List<MonthlyAggregate> aggregates) {
+        if (aggregates.isEmpty()) {
+            return;
+        }
+        for (MonthlyAggregate aggregate : aggregates) {
+            apply(MonthlyRollupKey.of(userId, aggregate), aggregate.getTotal().negate(), -aggregate.getCount());
+        }
+        rollupRepository.deleteEmpty(userId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void moveAll(Long userId, List<MonthlyAggregate> aggregates, Long newCategoryId) {
+        List<MonthlyAggregate> moved = new ArrayList<>();
+        for (MonthlyAggregate aggregate : aggregates) {
+            if (!Objects.equals(aggregate.getCategoryId(), newCategoryId)) {
+                moved.add(aggregate);
+            }
+        }
+        for (MonthlyAggregate aggregate : moved) {
+            MonthlyRollupKey key = MonthlyRollupKey.of(userId, aggregate);
+            apply(new MonthlyRollupKey(userId, newCategoryId, key.monthStart(), key.type()),
+                    aggregate.getTotal(), aggregate.getCount());
+        }
+        subtractAll(userId, moved);
+    }
+
+    // Every rollup delta is also a balance delta; the balance service nets them per transaction
+    private void apply(MonthlyRollupKey key, BigDecimal amount, long count) {
+        rollupRepository.applyDelta(key.userId(), key.categoryId(), key.monthStart(), key.type().name(), amount, count);
+        balanceService.record(key.userId(), key.categoryId(), key.type(), amount, count);
+    }
+
+    /**
+     * Recomputes the user's rollups from raw transactions and compares them with the stored rows.
+     * Unless {@code dryRun} is set, mismatching rollups are replaced with the recomputed ones.
+     * The user's row is locked first, so writes for that user wait for the rebuild to finish
+     * instead of committing between the recompute and the replacement. A write that already
+     * touched a rollup when the rebuild started deadlocks with it, and one of the two rolls back.
+     */
+    @Override
+    @Transactional
+    public RollupRebuildResponse rebuild(Long userId, boolean dryRun) {
+        userRepository.lockById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
+        User user = userRepository.getReferenceById(userId);
+
+        Map<MonthlyRollupKey, MonthlyRollup> stored = new HashMap<>();
+        for (MonthlyRollup rollup : rollupRepository.findByUserId(userId)) {
+            stored.put(keyOf(userId, rollup), rollup);
+        }
+
+        Map<MonthlyRollupKey, MonthlyAggregate> expected = new HashMap<>();
+        for (MonthlyAggregate aggregate : transactionRepository.aggregateByMonth(userId)) {
+            expected.put(MonthlyRollupKey.of(userId, aggregate), aggregate);
+        }
+
+        int mismatches = 0;
+        for (Map.Entry<MonthlyRollupKey, MonthlyAggregate> entry : expected.entrySet()) {
+            MonthlyRollup rollup = stored.get(entry.getKey());
+            MonthlyAggregate aggregate = entry.getValue();
+            if (rollup == null
+                    || rollup.getTotal().compareTo(aggregate.getTotal()) != 0
+                    || !Objects.equals(rollup.getCount(), aggregate.getCount())) {
+                mismatches++;
+            }
+        }
+        for (MonthlyRollupKey key : stored.keySet()) {
+            if (!expected.containsKey(key)) {
+                mismatches++;
+            }
+        }
+
+        boolean repair = !dryRun && mismatches > 0;
+        if (repair) {
+            rollupRepository.deleteByUserId(userId);
+            List<MonthlyRollup> rebuilt = new ArrayList<>();
+            for (Map.Entry<MonthlyRollupKey, MonthlyAggregate> entry : expected.entrySet()) {
+                rebuilt.add(toRollup(user, entry.getKey(), entry.getValue()));
+            }
+            rollupRepository.saveAll(rebuilt);
+            logger.info("Repaired {} rollup mismatches for user id: {}", mismatches, userId);
+        }
+        return new RollupRebuildResponse(userId, stored.size(), repair ? expected.size() : stored.size(), mismatches, repair);
+    }
+
+    private MonthlyRollupKey keyOf(Long userId, MonthlyRollup rollup) {
+        Long categoryId = rollup.getCategory() != null ? rollup.getCategory().getId() : null;
+        return new MonthlyRollupKey(userId, categoryId, rollup.getMonthStart(), rollup.getType());
+    }
+
+    private MonthlyRollup toRollup(User user, MonthlyRollupKey key, MonthlyAggregate aggregate) {
+        MonthlyRollup rollup = new MonthlyRollup();
+        rollup.setUser(user);
+        Category category = key.categoryId() != null ? categoryRepository.getReferenceById(key.categoryId()) : null;
+        rollup.setCategory(category);
+        rollup.setMonthStart(key.monthStart());
+        rollup.setType(key.type());
+        rollup.setTotal(aggregate.getTotal());
+        rollup.setCount(aggregate.getCount());
+        return rollup;
+    }
+}
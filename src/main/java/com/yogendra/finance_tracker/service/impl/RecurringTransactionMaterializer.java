@@ -0,0 +1,123 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.RecurringTransaction;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.repository.CategoryRepository;
+import com.yogendra.finance_tracker.repository.RecurringTransactionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Posts the due occurrences of one user's recurring templates in a single DB transaction.
+ * Occurrences are built in memory and handed to {@link TransactionBatchWriter}, so a long
+ * catch-up is a few batched inserts and one rollup delta per month rather than one write per day.
+ */
+@Component
+public class RecurringTransactionMaterializer {
+
+    private final RecurringTransactionRepository recurringRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionBatchWriter batchWriter;
+    private final int maxOccurrences;
+
+    @Autowired
+    public RecurringTransactionMaterializer(RecurringTransactionRepository recurringRepository,
+                                            CategoryRepository categoryRepository,
+                                            TransactionBatchWriter batchWriter,
+                                            @Value("${recurring.scheduler.max-occurrences-per-template:1000}") int maxOccurrences) {
+        this.recurringRepository = recurringRepository;
+        this.categoryRepository = categoryRepository;
+        this.batchWriter = batchWriter;
+        this.maxOccurrences = maxOccurrences;
+    }
+
+    /**
+     * Result of one call: transactions posted, and templates that hit the per-template cap and
+     * still have occurrences due.
+     */
+    public record Outcome(int posted, int capped) {
+    }
+
+    /**
+     * Posts everything due up to {@code today} for templates read earlier, in the same transaction as
+     * the cursor update that claims them. A template whose cursor moved since it was read was handled
+     * by another worker and is skipped, so overlapping runs never post an occurrence twice.
+     */
+    @Transactional
+    public Outcome materialize(Long userId, List<RecurringTransaction> templates, LocalDate today) {
+        List<Transaction> transactions = new ArrayList<>();
+        int capped = 0;
+        for (RecurringTransaction template : templates) {
+            long from = template.getOccurrenceCount();
+            List<LocalDate> dates = dueDates(template, from, today);
+            if (dates.isEmpty()) {
+                continue;
+            }
+            long newCount = from + dates.size();
+            LocalDate nextRunDate = template.scheduledDate(newCount);
+            if (recurringRepository.advance(template.getId(), from, newCount, nextRunDate) == 0) {
+                continue;
+            }
+            Category category = categoryRepository.getReferenceById(template.getCategory().getId());
+            for (LocalDate date : dates) {
+                transactions.add(toTransaction(template, category, date));
+            }
+            if (nextRunDate != null && !nextRunDate.isAfter(today)) {
+                capped++;
+            }
+        }
+        if (!transactions.isEmpty()) {
+            batchWriter.write(userId, transactions);
+        }
+        return new Outcome(transactions.size(), capped);
+    }
+
+    /**
+     * Catches up a template that has not been saved yet: moves its cursor in memory and posts the
+     * occurrences already due. Must run in the caller's transaction together with the save.
+     */
+    @Transactional
+    public int catchUpNew(Long userId, RecurringTransaction template, LocalDate today) {
+        List<LocalDate> dates = dueDates(template, 0, today);
+        template.setOccurrenceCount(dates.size());
+        template.setNextRunDate(template.scheduledDate(dates.size()));
+        if (dates.isEmpty()) {
+            return 0;
+        }
+        List<Transaction> transactions = new ArrayList<>(dates.size());
+        for (LocalDate date : dates) {
+            transactions.add(toTransaction(template, template.getCategory(), date));
+        }
+        batchWriter.write(userId, transactions);
+        return transactions.size();
+    }
+
+    private List<LocalDate> dueDates(RecurringTransaction template, long from, LocalDate today) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (long index = from; dates.size() < maxOccurrences; index++) {
+            LocalDate date = template.scheduledDate(index);
+            if (date == null || date.isAfter(today)) {
+                break;
+            }
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    private static Transaction toTransaction(RecurringTransaction template, Category category, LocalDate date) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(template.getAmount());
+        transaction.setType(template.getType());
+        transaction.setDescription(template.getDescription());
+        transaction.setDate(date);
+        transaction.setCategory(category);
+        return transaction;
+    }
+}
@@ -0,0 +1,180 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.yogendra.finance_tracker.dto.RecurringTransactionRequest;
+import com.yogendra.finance_tracker.model.RecurrenceFrequency;
+import com.yogendra.finance_tracker.model.RecurringTransaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.repository.CategoryRepository;
+import com.yogendra.finance_tracker.repository.RecurringTransactionRepository;
+import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.service.CategoryService;
+import com.yogendra.finance_tracker.service.RecurringTransactionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Service
+public class RecurringTransactionServiceImpl implements RecurringTransactionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringTransactionServiceImpl.class);
+
+    private final RecurringTransactionRepository recurringRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final RecurringTransactionMaterializer materializer;
+    private final int partitions;
+    private final int pageSize;
+    private final Counter posted;
+
+    @Autowired
+    public RecurringTransactionServiceImpl(RecurringTransactionRepository recurringRepository,
+                                           UserRepository userRepository,
+                                           CategoryRepository categoryRepository,
+                                           CategoryService categoryService,
+                                           RecurringTransactionMaterializer materializer,
+                                           @Value("${recurring.scheduler.partitions:4}") int partitions,
+                                           @Value("${recurring.scheduler.page-size:500}") int pageSize,
+                                           MeterRegistry meterRegistry) {
+        this.recurringRepository = recurringRepository;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.categoryService = categoryService;
+        this.materializer = materializer;
+        this.partitions = partitions;
+        this.pageSize = pageSize;
+        this.posted = Counter.builder("recurring.transactions.posted")
+                .description("Transactions posted from recurring templates")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public RecurringTransaction createRecurringTransaction(RecurringTransactionRequest request, Long userId) {
+        // Category ownership check
+        categoryService.getCategoryByIdAndUserId(request.getCategoryId(), userId)
+                .orElseThrow(() -> new IllegalArgumentException("Category not found or does not belong to user"));
+
+        RecurringTransaction recurring = new RecurringTransaction();
+        recurring.setUser(userRepository.getReferenceById(userId));
+        recurring.setCategory(categoryRepository.getReferenceById(request.getCategoryId()));
+        recurring.setAmount(request.getAmount());
+        recurring.setType(TransactionType.valueOf(request.getType()));
+        recurring.setDescription(request.getDescription());
+        recurring.setFrequency(RecurrenceFrequency.valueOf(request.getFrequency()));
+        recurring.setIntervalCount(request.getInterval() != null ? request.getInterval() : 1);
+        recurring.setStartDate(request.getStartDate());
+        recurring.setEndDate(request.getEndDate());
+
+        int count = materializer.catchUpNew(userId, recurring, LocalDate.now());
+        posted.increment(count);
+        return recurringRepository.save(recurring);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecurringTransaction> getRecurringTransactions(Long userId) {
+        return recurringRepository.findByUserIdOrderById(userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RecurringTransaction> getRecurringTransaction(Long id, Long userId) {
+        return recurringRepository.findByIdAndUserId(id, userId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteRecurringTransaction(Long id, Long userId) {
+        RecurringTransaction recurring = recurringRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Recurring transaction not found or does not belong to user"));
+        recurringRepository.delete(recurring);
+    }
+
+    // Not transactional: each user's occurrences are posted in their own transaction by the materializer
+    @Override
+    public long materializeDue(LocalDate today) {
+        ExecutorService workers = Executors.newFixedThreadPool(partitions);
+        try {
+            List<Future<Long>> results = new ArrayList<>(partitions);
+            for (int partition = 0; partition < partitions; partition++) {
+                int p = partition;
+                results.add(workers.submit(() -> materializePartition(p, today)));
+            }
+            long total = 0;
+            for (int partition = 0; partition < partitions; partition++) {
+                try {
+                    total += results.get(partition).get();
+                } catch (ExecutionException e) {
+                    logger.error("Recurring transactions in partition {} failed", partition, e.getCause());
+                }
+            }
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while posting recurring transactions", e);
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    /**
+     * Walks the due templates of one partition in keyset pages and posts them user by user.
+     * Templates that hit the per-template cap stay due and continue on the next run, so a
+     * template started far in the past cannot keep one run going indefinitely.
+     */
+    private long materializePartition(int partition, LocalDate today) {
+        long total = 0;
+        int capped = 0;
+        long afterUserId = 0;
+        long afterId = 0;
+        List<RecurringTransaction> page;
+        do {
+            page = recurringRepository.findDue(today, partitions, partition, afterUserId, afterId, Limit.of(pageSize));
+            int start = 0;
+            while (start < page.size()) {
+                Long userId = page.get(start).getUser().getId();
+                int end = start;
+                while (end < page.size() && page.get(end).getUser().getId().equals(userId)) {
+                    end++;
+                }
+                try {
+                    RecurringTransactionMaterializer.Outcome outcome =
+                            materializer.materialize(userId, page.subList(start, end), today);
+                    total += outcome.posted();
+                    capped += outcome.capped();
+                    posted.increment(outcome.posted());
+                } catch (RuntimeException e) {
+                    // One user's failure must not hold back the rest of the partition
+                    logger.error("Could not post recurring transactions for user {}", userId, e);
+                }
+                start = end;
+            }
+            if (!page.isEmpty()) {
+                RecurringTransaction last = page.get(page.size() - 1);
+                afterUserId = last.getUser().getId();
+                afterId = last.getId();
+            }
+        } while (page.size() == pageSize);
+        if (capped > 0) {
+            logger.info("{} recurring templates in partition {} are still due and continue on the next run",
+                    capped, partition);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,71 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.yogendra.finance_tracker.model.MonthlyRollupKey;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.service.DataVersionService;
+import com.yogendra.finance_tracker.service.MonthlyRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts a batch of already validated transactions for one user in its own DB transaction,
+ * applying one rollup delta per affected rollup row instead of one per transaction.
+ */
+@Component
+public class TransactionBatchWriter {
+
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+    private final MonthlyRollupService rollupService;
+    private final DataVersionService dataVersionService;
+    private final TransactionSearchIndex searchIndex;
+
+    @Autowired
+    public TransactionBatchWriter(TransactionRepository transactionRepository, UserRepository userRepository,
+                                  MonthlyRollupService rollupService, DataVersionService dataVersionService,
+                                  TransactionSearchIndex searchIndex) {
+        this.transactionRepository = transactionRepository;
+        this.userRepository = userRepository;
+        this.rollupService = rollupService;
+        this.dataVersionService = dataVersionService;
+        this.searchIndex = searchIndex;
+    }
+
+    @Transactional
+    public void write(Long userId, List<Transaction> transactions) {
+        User user = userRepository.getReferenceById(userId);
+        Map<MonthlyRollupKey, BigDecimal> totals = new HashMap<>();
+        Map<MonthlyRollupKey, Long> counts = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            transaction.setUser(user);
+            MonthlyRollupKey key = MonthlyRollupKey.of(transaction);
+            totals.merge(key, transaction.getAmount(), BigDecimal::add);
+            counts.merge(key, 1L, Long::sum);
+        }
+        transactionRepository.saveAll(transactions);
+        for (Map.Entry<MonthlyRollupKey, BigDecimal> entry : totals.entrySet()) {
+            rollupService.add(entry.getKey(), entry.getValue(), counts.get(entry.getKey()));
+        }
+        dataVersionService.bumpVersion(userId);
+        searchIndex.indexed(userId, transactions);
+    }
+
+    /**
+     * Writes several users' batches with a single commit. Any failure rolls back all of them.
+     */
+    @Transactional
+    public void writeAll(Map<Long, List<Transaction>> transactionsByUser) {
+        for (Map.Entry<Long, List<Transaction>> entry : transactionsByUser.entrySet()) {
+            write(entry.getKey(), entry.getValue());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.yogendra.finance_tracker.dto.TransactionFileFormat;
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.repository.TransactionSpecifications;
+import com.yogendra.finance_tracker.service.TransactionExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class TransactionExportServiceImpl implements TransactionExportService {
+
+    // Same column names the import endpoint reads, so an export can be re-imported as is
+    private static final String CSV_HEADER = "id,date,amount,type,categoryId,categoryName,description";
+
+    private final TransactionRepository transactionRepository;
+    private final ObjectWriter jsonWriter;
+    private final int fetchSize;
+
+    @Autowired
+    public TransactionExportServiceImpl(TransactionRepository transactionRepository,
+                                        ObjectMapper objectMapper,
+                                        @Value("${transactions.export.fetch-size:1000}") int fetchSize) {
+        this.transactionRepository = transactionRepository;
+        this.jsonWriter = objectMapper.writerFor(TransactionResponse.class);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTransactions(Long userId, TransactionType type, Long categoryId, LocalDate startDate,
+                                   LocalDate endDate, TransactionFileFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == TransactionFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<TransactionResponse> rows = transactionRepository.streamResponses(
+                TransactionSpecifications.withFilters(userId, type, categoryId, startDate, endDate), fetchSize)) {
+            Iterator<TransactionResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TransactionResponse row = iterator.next();
+                if (format == TransactionFileFormat.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(row));
+                }
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, TransactionResponse row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(row.getDate().toString());
+        writer.write(',');
+        writer.write(row.getAmount().toPlainString());
+        writer.write(',');
+        writer.write(row.getType().name());
+        writer.write(',');
+        writer.write(row.getCategoryId() != null ? row.getCategoryId().toString() : "");
+        writer.write(',');
+        writer.write(csvField(row.getCategoryName()));
+        writer.write(',');
+        writer.write(csvField(row.getDescription()));
+    }
+
+    // Quotes fields containing separators, quotes or line breaks, doubling embedded quotes
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
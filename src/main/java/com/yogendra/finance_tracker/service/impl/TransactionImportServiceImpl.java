@@ -0,0 +1,253 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yogendra.finance_tracker.dto.TransactionFileFormat;
+import com.yogendra.finance_tracker.dto.ImportResultResponse;
+import com.yogendra.finance_tracker.dto.TransactionRequest;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.repository.CategoryRepository;
+import com.yogendra.finance_tracker.service.TransactionImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams an upload line by line, so memory use is bounded by the batch size rather than the
+ * file size. Invalid rows are reported and skipped; valid rows are written batch by batch.
+ */
+@Service
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionImportServiceImpl.class);
+
+    private static final List<String> CSV_COLUMNS = List.of("date", "amount", "type", "categoryid", "description");
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionBatchWriter batchWriter;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+
+    @Autowired
+    public TransactionImportServiceImpl(CategoryRepository categoryRepository,
+                                        TransactionBatchWriter batchWriter,
+                                        ObjectMapper objectMapper,
+                                        Validator validator,
+                                        @Value("${transactions.import.batch-size:500}") int batchSize) {
+        this.categoryRepository = categoryRepository;
+        this.batchWriter = batchWriter;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    // A parsed row together with its line number for error reporting
+    private record PendingRow(long line, TransactionRequest request) {
+    }
+
+    @Override
+    public ImportResultResponse importTransactions(Long userId, InputStream body, TransactionFileFormat format) throws IOException {
+        ImportResultResponse result = new ImportResultResponse();
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+        Function<String, TransactionRequest> parser = format == TransactionFileFormat.NDJSON ? this::parseJsonLine : null;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (parser == null) {
+                    // First non-blank CSV line is the header
+                    try {
+                        parser = csvParser(line);
+                    } catch (IllegalArgumentException e) {
+                        result.addError(lineNumber, e.getMessage());
+                        return result;
+                    }
+                    continue;
+                }
+                try {
+                    TransactionRequest request = parser.apply(line);
+                    validate(request);
+                    batch.add(new PendingRow(lineNumber, request));
+                } catch (IllegalArgumentException e) {
+                    result.addError(lineNumber, e.getMessage());
+                }
+                if (batch.size() >= batchSize) {
+                    flush(userId, batch, result);
+                    batch.clear();
+                }
+            }
+        }
+        flush(userId, batch, result);
+        logger.info("Imported {} transactions for user id: {} ({} rows rejected)", result.getImported(), userId, result.getFailed());
+        return result;
+    }
+
+    private void flush(Long userId, List<PendingRow> batch, ImportResultResponse result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // One ownership-checked category lookup per batch
+        Set<Long> categoryIds = new HashSet<>();
+        for (PendingRow row : batch) {
+            categoryIds.add(row.request().getCategoryId());
+        }
+        Map<Long, Category> categories = new HashMap<>();
+        for (Category category : categoryRepository.findByUserIdAndIdIn(userId, categoryIds)) {
+            categories.put(category.getId(), category);
+        }
+
+        List<Transaction> transactions = new ArrayList<>(batch.size());
+        List<PendingRow> accepted = new ArrayList<>(batch.size());
+        for (PendingRow row : batch) {
+            Category category = categories.get(row.request().getCategoryId());
+            if (category == null) {
+                result.addError(row.line(), "Category not found or does not belong to user");
+                continue;
+            }
+            transactions.add(toTransaction(row.request(), category));
+            accepted.add(row);
+        }
+        if (transactions.isEmpty()) {
+            return;
+        }
+        try {
+            batchWriter.write(userId, transactions);
+            result.addImported(transactions.size());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to write import batch for user id: {}", userId, e);
+            for (PendingRow row : accepted) {
+                result.addError(row.line(), "Batch could not be saved");
+            }
+        }
+    }
+
+    private Transaction toTransaction(TransactionRequest request, Category category) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(request.getAmount());
+        transaction.setType(TransactionType.valueOf(request.getType()));
+        transaction.setDescription(request.getDescription());
+        transaction.setDate(request.getDate());
+        transaction.setCategory(category);
+        return transaction;
+    }
+
+    // Applies the constraints declared on TransactionRequest, the same ones @Valid enforces on the API
+    private void validate(TransactionRequest request) {
+        Set<ConstraintViolation<TransactionRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private TransactionRequest parseJsonLine(String line) {
+        try {
+            return objectMapper.readValue(line, TransactionRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private Function<String, TransactionRequest> csvParser(String headerLine) {
+        List<String> header = splitCsvLine(headerLine);
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : CSV_COLUMNS) {
+            if (!column.equals("description") && !positions.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header must contain date, amount, type and categoryId");
+            }
+        }
+        return line -> {
+            List<String> fields = splitCsvLine(line);
+            TransactionRequest request = new TransactionRequest();
+            try {
+                String amount = field(fields, positions.get("amount"));
+                request.setAmount(amount != null ? new BigDecimal(amount) : null);
+                request.setType(field(fields, positions.get("type")));
+                request.setDescription(field(fields, positions.get("description")));
+                String date = field(fields, positions.get("date"));
+                request.setDate(date != null ? LocalDate.parse(date) : null);
+                String categoryId = field(fields, positions.get("categoryid"));
+                request.setCategoryId(categoryId != null ? Long.parseLong(categoryId) : null);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Malformed value: " + e.getMessage());
+            }
+            return request;
+        };
+    }
+
+    private static String field(List<String> fields, Integer position) {
+        if (position == null || position >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // Splits one CSV record, honoring double-quoted fields with "" escapes (records may not span lines)
+    private static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
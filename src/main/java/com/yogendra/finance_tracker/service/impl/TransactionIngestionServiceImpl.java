@@ -0,0 +1,305 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yogendra.finance_tracker.dto.IngestionState;
+import com.yogendra.finance_tracker.dto.IngestionStatusResponse;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.service.TransactionIngestionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded queue in front of {@link TransactionBatchWriter}. A single writer thread takes whatever
+ * has accumulated, up to {@code transactions.ingestion.max-batch-size}, and commits it in one
+ * database transaction, so batches grow with load instead of each request paying for its own
+ * commit. On shutdown intake stops first and the writer drains the queue before the data source
+ * is closed.
+ * <p>
+ * Submissions still in the queue or in a batch are tracked outside the status cache, so size
+ * eviction only ever drops finished statuses and a client can always see PENDING for work it is
+ * still waiting on.
+ */
+@Service
+public class TransactionIngestionServiceImpl implements TransactionIngestionService, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionIngestionServiceImpl.class);
+    // Stop after the web server has stopped taking requests, and before the data source closes
+    private static final int PHASE = Integer.MAX_VALUE - 2048;
+    private static final long POLL_MILLIS = 100;
+
+    private final TransactionBatchWriter batchWriter;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<Pending> queue;
+    // Finished statuses only; an entry is added here before it leaves unfinished
+    private final Cache<String, IngestionStatus> statuses;
+    // Owner of each accepted submission that has not been committed or failed yet
+    private final ConcurrentMap<String, Long> unfinished = new ConcurrentHashMap<>();
+    // Held while checking accepting and enqueuing, and while stop() closes intake
+    private final ReentrantLock intake = new ReentrantLock();
+    private final Counter rejected;
+    private final Counter failed;
+    private final DistributionSummary batchSize;
+
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread writer;
+
+    @Autowired
+    public TransactionIngestionServiceImpl(TransactionBatchWriter batchWriter,
+                                           @Value("${transactions.ingestion.enabled:true}") boolean enabled,
+                                           @Value("${transactions.ingestion.queue-capacity:10000}") int queueCapacity,
+                                           @Value("${transactions.ingestion.max-batch-size:500}") int maxBatchSize,
+                                           @Value("${transactions.ingestion.status-ttl:1h}") Duration statusTtl,
+                                           @Value("${transactions.ingestion.shutdown-timeout:30s}") Duration shutdownTimeout,
+                                           MeterRegistry meterRegistry) {
+        this.batchWriter = batchWriter;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(Math.max(queueCapacity, 100_000))
+                .expireAfterWrite(statusTtl)
+                .build();
+        Gauge.builder("transactions.ingestion.queue.size", queue, BlockingQueue::size)
+                .description("Transactions accepted and not yet written")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("transactions.ingestion.rejected")
+                .description("Submissions turned away because the queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("transactions.ingestion.failed")
+                .description("Accepted transactions that could not be written")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("transactions.ingestion.batch.size")
+                .description("Transactions committed together by the writer")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isAccepting() {
+        return accepting;
+    }
+
+    @Override
+    public Optional<IngestionStatusResponse> submit(Transaction transaction, Long userId) {
+        Pending pending = Pending.of(UUID.randomUUID().toString(), userId, transaction);
+        // Under the lock, so nothing is enqueued after stop() has closed intake and the writer may exit
+        intake.lock();
+        try {
+            if (!accepting) {
+                return Optional.empty();
+            }
+            unfinished.put(pending.trackingId(), userId);
+            if (!queue.offer(pending)) {
+                unfinished.remove(pending.trackingId());
+                rejected.increment();
+                return Optional.empty();
+            }
+        } finally {
+            intake.unlock();
+        }
+        return Optional.of(pendingStatus(userId).toResponse(pending.trackingId()));
+    }
+
+    @Override
+    public Optional<IngestionStatusResponse> getStatus(String trackingId, Long userId) {
+        // Checked first: a submission leaves unfinished only after its final status is cached
+        Long owner = unfinished.get(trackingId);
+        IngestionStatus status = owner != null ? pendingStatus(owner) : statuses.getIfPresent(trackingId);
+        if (status == null || !status.userId().equals(userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(status.toResponse(trackingId));
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        accepting = true;
+        writer = new Thread(this::drain, "transaction-ingestion-writer");
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        intake.lock();
+        try {
+            accepting = false;
+        } finally {
+            intake.unlock();
+        }
+        // Every accepted submission is queued by now, so the writer's empty-queue exit loses nothing
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warn("Ingestion writer did not drain within {}; {} transactions were not written",
+                    shutdownTimeout, queue.size());
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    // Keeps going after stop() until the queue is empty
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Ingestion writer interrupted; {} transactions were not written", queue.size());
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Ingestion writer failed on a batch of {}", batch.size(), e);
+                failedAll(batch);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /*
+     * One commit for the whole batch. If it fails, each user's part is retried on its own so a
+     * single bad submission (e.g. its category was deleted meanwhile) only fails its own group.
+     * Entities are rebuilt per attempt because a rolled-back attempt leaves ids on them.
+     */
+    private void flush(List<Pending> batch) {
+        Map<Long, List<Pending>> byUser = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            byUser.computeIfAbsent(pending.userId(), key -> new ArrayList<>()).add(pending);
+        }
+        Map<Long, List<Transaction>> transactions = new LinkedHashMap<>();
+        byUser.forEach((userId, pendings) -> transactions.put(userId, toTransactions(pendings)));
+        try {
+            batchWriter.writeAll(transactions);
+            byUser.forEach((userId, pendings) -> committed(pendings, transactions.get(userId)));
+            batchSize.record(batch.size());
+            return;
+        } catch (RuntimeException e) {
+            logger.warn("Batch of {} transactions failed, retrying per user", batch.size(), e);
+        }
+        for (Map.Entry<Long, List<Pending>> entry : byUser.entrySet()) {
+            List<Transaction> retry = toTransactions(entry.getValue());
+            try {
+                batchWriter.write(entry.getKey(), retry);
+                committed(entry.getValue(), retry);
+                batchSize.record(retry.size());
+            } catch (RuntimeException e) {
+                logger.error("Could not write {} queued transactions for user {}", retry.size(), entry.getKey(), e);
+                failedAll(entry.getValue());
+            }
+        }
+    }
+
+    private void committed(List<Pending> pendings, List<Transaction> written) {
+        for (int i = 0; i < pendings.size(); i++) {
+            Pending pending = pendings.get(i);
+            finished(pending, new IngestionStatus(pending.userId(), IngestionState.COMMITTED,
+                    written.get(i).getId(), null));
+        }
+    }
+
+    private void failedAll(List<Pending> pendings) {
+        for (Pending pending : pendings) {
+            if (unfinished.containsKey(pending.trackingId())) {
+                finished(pending, new IngestionStatus(pending.userId(), IngestionState.FAILED,
+                        null, "Transaction could not be stored"));
+                failed.increment();
+            }
+        }
+    }
+
+    private void finished(Pending pending, IngestionStatus status) {
+        statuses.put(pending.trackingId(), status);
+        unfinished.remove(pending.trackingId());
+    }
+
+    private static IngestionStatus pendingStatus(Long userId) {
+        return new IngestionStatus(userId, IngestionState.PENDING, null, null);
+    }
+
+    private static List<Transaction> toTransactions(List<Pending> pendings) {
+        return pendings.stream().map(Pending::toTransaction).toList();
+    }
+
+    // Immutable copy of a submission, independent of the request's entity
+    private record Pending(String trackingId, Long userId, BigDecimal amount, TransactionType type,
+                           String description, LocalDate date, Category category) {
+
+        static Pending of(String trackingId, Long userId, Transaction transaction) {
+            return new Pending(trackingId, userId, transaction.getAmount(), transaction.getType(),
+                    transaction.getDescription(), transaction.getDate(), transaction.getCategory());
+        }
+
+        Transaction toTransaction() {
+            Transaction transaction = new Transaction();
+            transaction.setAmount(amount);
+            transaction.setType(type);
+            transaction.setDescription(description);
+            transaction.setDate(date);
+            transaction.setCategory(category);
+            return transaction;
+        }
+    }
+
+    private record IngestionStatus(Long userId, IngestionState state, Long transactionId, String error) {
+
+        IngestionStatusResponse toResponse(String trackingId) {
+            return new IngestionStatusResponse(trackingId, state, transactionId, error);
+        }
+    }
+}
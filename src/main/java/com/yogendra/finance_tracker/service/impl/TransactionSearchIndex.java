@@ -0,0 +1,313 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.repository.TransactionSearchRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Per-user inverted index over transaction descriptions. A user's index is built from the table on
+ * their first search and then kept current by the transaction writers, which report every change
+ * after commit. Indexes of idle users are dropped and rebuilt on demand, and the total number of
+ * indexed transactions is bounded by {@code search.index.max-documents}.
+ */
+@Component
+public class TransactionSearchIndex implements MeterBinder {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    // A query term that is only a prefix of the indexed term counts for less than an exact match
+    private static final double PREFIX_WEIGHT = 0.5;
+
+    private final Cache<Long, UserIndex> indexes;
+
+    public TransactionSearchIndex(@Value("${search.index.max-documents:1000000}") long maxDocuments,
+                                  @Value("${search.index.idle-ttl:30m}") Duration idleTtl) {
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maxDocuments)
+                .weigher((Long userId, UserIndex index) -> Math.max(1, index.docs.size()))
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the ids of the user's transactions that match every term of the query, best match
+     * first, then newest first. Each query term matches indexed terms it is a prefix of.
+     *
+     * @param loader reads the user's rows when the index has to be built
+     */
+    public List<Long> search(Long userId, String query, TransactionType type, Long categoryId,
+                             LocalDate startDate, LocalDate endDate, Supplier<List<TransactionSearchRow>> loader) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        while (true) {
+            UserIndex index = get(userId, loader);
+            index.lock.readLock().lock();
+            try {
+                // Lost a race with a failed build; try again with a fresh index
+                if (!index.loaded) {
+                    continue;
+                }
+                return index.search(terms, type, categoryId, startDate, endDate);
+            } finally {
+                index.lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Drops the user's index and builds it again from the table.
+     *
+     * @return number of transactions indexed
+     */
+    public int rebuild(Long userId, Supplier<List<TransactionSearchRow>> loader) {
+        indexes.invalidate(userId);
+        UserIndex index = get(userId, loader);
+        index.lock.readLock().lock();
+        try {
+            return index.docs.size();
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    // Writers call these inside their transaction; the change is applied after commit, and only to
+    // an index that is already built, since a later build reads the committed rows anyway
+
+    public void indexed(Long userId, Collection<Transaction> transactions) {
+        List<Doc> docs = transactions.stream().map(Doc::of).toList();
+        afterCommit(userId, index -> docs.forEach(index::put));
+    }
+
+    public void removed(Long userId, Collection<Long> ids) {
+        List<Long> copy = List.copyOf(ids);
+        afterCommit(userId, index -> copy.forEach(index::remove));
+    }
+
+    public void recategorized(Long userId, Collection<Long> ids, Long categoryId) {
+        List<Long> copy = List.copyOf(ids);
+        afterCommit(userId, index -> copy.forEach(id -> index.recategorize(id, categoryId)));
+    }
+
+    // For writes whose affected rows are not known individually; the next search rebuilds the index
+    public void evictUser(Long userId) {
+        indexes.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    indexes.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        indexes.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, indexes, "transactionSearch");
+    }
+
+    /**
+     * Lowercases, strips accents and splits on anything that is not a letter or digit, so
+     * "Café-Bar #12" becomes [cafe, bar, 12].
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : SEPARATORS.split(folded)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return List.copyOf(terms);
+    }
+
+    /*
+     * Builds the index while holding its write lock, after publishing it: writes that commit
+     * before the rows are read are part of the snapshot, and writes that commit later wait for
+     * the lock and are applied on top. Every change sets a transaction's state outright, so
+     * applying one the snapshot already contains is harmless.
+     */
+    private UserIndex get(Long userId, Supplier<List<TransactionSearchRow>> loader) {
+        UserIndex index = indexes.getIfPresent(userId);
+        if (index != null) {
+            return index;
+        }
+        UserIndex created = new UserIndex();
+        created.lock.writeLock().lock();
+        try {
+            UserIndex existing = indexes.asMap().putIfAbsent(userId, created);
+            if (existing != null) {
+                return existing;
+            }
+            try {
+                for (TransactionSearchRow row : loader.get()) {
+                    created.put(Doc.of(row));
+                }
+            } catch (RuntimeException e) {
+                indexes.asMap().remove(userId, created);
+                throw e;
+            }
+            created.loaded = true;
+            // Replace with itself so the weigher sees the loaded size
+            indexes.asMap().replace(userId, created, created);
+            return created;
+        } finally {
+            created.lock.writeLock().unlock();
+        }
+    }
+
+    private void afterCommit(Long userId, Consumer<UserIndex> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, change);
+                }
+            });
+        } else {
+            apply(userId, change);
+        }
+    }
+
+    private void apply(Long userId, Consumer<UserIndex> change) {
+        UserIndex index = indexes.asMap().get(userId);
+        if (index == null) {
+            return;
+        }
+        index.lock.writeLock().lock();
+        try {
+            change.accept(index);
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    private record Doc(long id, List<String> terms, TransactionType type, Long categoryId, LocalDate date) {
+
+        static Doc of(Transaction transaction) {
+            return new Doc(transaction.getId(), tokenize(transaction.getDescription()), transaction.getType(),
+                    transaction.getCategory() != null ? transaction.getCategory().getId() : null, transaction.getDate());
+        }
+
+        static Doc of(TransactionSearchRow row) {
+            return new Doc(row.getId(), tokenize(row.getDescription()), row.getType(), row.getCategoryId(), row.getDate());
+        }
+
+        boolean matches(TransactionType type, Long categoryId, LocalDate startDate, LocalDate endDate) {
+            return (type == null || type == this.type)
+                    && (categoryId == null || categoryId.equals(this.categoryId))
+                    && (startDate == null || !date.isBefore(startDate))
+                    && (endDate == null || !date.isAfter(endDate));
+        }
+    }
+
+    private record Hit(Doc doc, double score) {
+    }
+
+    // Guarded by lock; postings are sorted so a prefix is a contiguous range of terms
+    private static final class UserIndex {
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+        final Map<Long, Doc> docs = new HashMap<>();
+        final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+        boolean loaded;
+
+        void put(Doc doc) {
+            remove(doc.id());
+            if (doc.terms().isEmpty()) {
+                return;
+            }
+            docs.put(doc.id(), doc);
+            for (String term : doc.terms()) {
+                postings.computeIfAbsent(term, key -> new HashSet<>()).add(doc.id());
+            }
+        }
+
+        void remove(long id) {
+            Doc old = docs.remove(id);
+            if (old == null) {
+                return;
+            }
+            for (String term : old.terms()) {
+                Set<Long> ids = postings.get(term);
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+
+        void recategorize(long id, Long categoryId) {
+            docs.computeIfPresent(id, (key, doc) -> new Doc(doc.id(), doc.terms(), doc.type(), categoryId, doc.date()));
+        }
+
+        /*
+         * Scores each query term by the inverse document frequency of the best indexed term it
+         * matches, so rare words outrank common ones, and keeps only transactions matching all terms.
+         */
+        List<Long> search(List<String> terms, TransactionType type, Long categoryId,
+                          LocalDate startDate, LocalDate endDate) {
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> termScores = new HashMap<>();
+                SortedMap<String, Set<Long>> matches = postings.subMap(term, term + Character.MAX_VALUE);
+                for (Map.Entry<String, Set<Long>> entry : matches.entrySet()) {
+                    double idf = Math.log(1 + (double) docs.size() / entry.getValue().size());
+                    double weight = entry.getKey().length() == term.length() ? idf : idf * PREFIX_WEIGHT;
+                    for (Long id : entry.getValue()) {
+                        termScores.merge(id, weight, Math::max);
+                    }
+                }
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            List<Hit> hits = new ArrayList<>();
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                Doc doc = docs.get(entry.getKey());
+                if (doc.matches(type, categoryId, startDate, endDate)) {
+                    hits.add(new Hit(doc, entry.getValue()));
+                }
+            }
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparing(hit -> hit.doc().date(), Comparator.reverseOrder())
+                    .thenComparing(hit -> hit.doc().id(), Comparator.reverseOrder()));
+            return hits.stream().map(hit -> hit.doc().id()).toList();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.service.TransactionSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TransactionSearchServiceImpl implements TransactionSearchService {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionSearchIndex searchIndex;
+
+    @Autowired
+    public TransactionSearchServiceImpl(TransactionRepository transactionRepository, TransactionSearchIndex searchIndex) {
+        this.transactionRepository = transactionRepository;
+        this.searchIndex = searchIndex;
+    }
+
+    // Ranking and filtering run on the index; only the requested page is read from the table
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TransactionResponse> search(Long userId, String query, TransactionType type, Long categoryId,
+                                            LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        List<Long> ranked = searchIndex.search(userId, query, type, categoryId, startDate, endDate,
+                () -> transactionRepository.findSearchRowsByUserId(userId));
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Long> pageIds = ranked.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranked.size());
+        }
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < pageIds.size(); i++) {
+            rank.put(pageIds.get(i), i);
+        }
+        List<TransactionResponse> rows = transactionRepository.findResponsesByUserIdAndIdIn(userId, pageIds).stream()
+                .sorted(Comparator.comparing(row -> rank.get(row.getId())))
+                .toList();
+        return new PageImpl<>(rows, pageable, ranked.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int rebuild(Long userId) {
+        return searchIndex.rebuild(userId, () -> transactionRepository.findSearchRowsByUserId(userId));
+    }
+}
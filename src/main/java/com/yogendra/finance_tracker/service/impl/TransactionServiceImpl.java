@@ -1,30 +1,58 @@
 package com.yogendra.finance_tracker.service.impl;
 
+import com.yogendra.finance_tracker.dto.CursorPageResponse;
+import com.yogendra.finance_tracker.dto.TransactionCursor;
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.MonthlyRollupKey;
 import com.yogendra.finance_tracker.model.Transaction;
 import com.yogendra.finance_tracker.model.TransactionType;
 import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.MonthlyAggregate;
 import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.repository.TransactionSnapshot;
+import com.yogendra.finance_tracker.repository.TransactionSpecifications;
 import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.service.DataVersionService;
+import com.yogendra.finance_tracker.service.MonthlyRollupService;
 import com.yogendra.finance_tracker.service.TransactionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class TransactionServiceImpl implements TransactionService {
 
+    // Keeps IN lists, and the rows a filtered delete locks and holds in memory at once, within
+    // what the database handles comfortably
+    private static final int MAX_IDS_PER_STATEMENT = 1000;
+
     private final TransactionRepository transactionRepository;
     private final UserRepository userRepository;
+    private final MonthlyRollupService rollupService;
+    private final DataVersionService dataVersionService;
+    private final TransactionSearchIndex searchIndex;
 
     @Autowired
-    public TransactionServiceImpl(TransactionRepository transactionRepository, UserRepository userRepository) {
+    public TransactionServiceImpl(TransactionRepository transactionRepository, UserRepository userRepository,
+                                  MonthlyRollupService rollupService, DataVersionService dataVersionService,
+                                  TransactionSearchIndex searchIndex) {
         this.transactionRepository = transactionRepository;
         this.userRepository = userRepository;
+        this.rollupService = rollupService;
+        this.dataVersionService = dataVersionService;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -34,47 +62,71 @@ public class TransactionServiceImpl implements TransactionService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
         transaction.setUser(user);
-        return transactionRepository.save(transaction);
+        Transaction saved = transactionRepository.save(transaction);
+        rollupService.add(MonthlyRollupKey.of(saved), saved.getAmount());
+        dataVersionService.bumpVersion(userId);
+        searchIndex.indexed(userId, List.of(saved));
+        return saved;
     }
 
     @Override
-    public Optional<Transaction> getTransactionById(Long id, Long userId) {
-        Optional<Transaction> transactionOpt = transactionRepository.findById(id);
-        if (transactionOpt.isPresent() && transactionOpt.get().getUser().getId().equals(userId)) {
-            return transactionOpt;
-        }
-        return Optional.empty();
+    @Transactional(readOnly = true)
+    public Optional<TransactionResponse> getTransactionById(Long id, Long userId) {
+        return transactionRepository.findResponseByIdAndUserId(id, userId);
     }
 
     @Override
     @Transactional
     public Transaction updateTransaction(Long id, Transaction transactionDetails, Long userId) {
-        Transaction transaction = transactionRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Transaction not found with id: " + id));
-        if (!transaction.getUser().getId().equals(userId)) {
-            throw new SecurityException("Unauthorized to update this transaction");
-        }
-        transaction.setAmount(transactionDetails.getAmount());
-        transaction.setType(transactionDetails.getType());
-        transaction.setDescription(transactionDetails.getDescription());
-        transaction.setDate(transactionDetails.getDate());
-        transaction.setCategory(transactionDetails.getCategory());
-        return transactionRepository.save(transaction);
+        TransactionSnapshot old = findOwnedSnapshot(id, userId, "update");
+        int updated = transactionRepository.updateByIdAndUserId(id, userId,
+                transactionDetails.getAmount(),
+                transactionDetails.getType(),
+                transactionDetails.getDescription(),
+                transactionDetails.getDate(),
+                transactionDetails.getCategory());
+        requireWritten(updated, id);
+
+        // The statement above is the write; the returned entity is only a view of it
+        transactionDetails.setId(id);
+        transactionDetails.setUser(userRepository.getReferenceById(userId));
+        rollupService.move(MonthlyRollupKey.of(old), old.getAmount(),
+                MonthlyRollupKey.of(transactionDetails), transactionDetails.getAmount());
+        dataVersionService.bumpVersion(userId);
+        searchIndex.indexed(userId, List.of(transactionDetails));
+        return transactionDetails;
     }
 
     @Override
     @Transactional
     public void deleteTransaction(Long id, Long userId) {
-        Transaction transaction = transactionRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Transaction not found with id: " + id));
-        if (!transaction.getUser().getId().equals(userId)) {
-            throw new SecurityException("Unauthorized to delete this transaction");
+        TransactionSnapshot old = findOwnedSnapshot(id, userId, "delete");
+        requireWritten(transactionRepository.deleteByIdAndUserId(id, userId), id);
+        rollupService.subtract(MonthlyRollupKey.of(old), old.getAmount());
+        dataVersionService.bumpVersion(userId);
+        searchIndex.removed(userId, List.of(id));
+    }
+
+    // Locks only the caller's own row; the 404/403 decision for a miss is made without a lock
+    private TransactionSnapshot findOwnedSnapshot(Long id, Long userId, String action) {
+        return transactionRepository.findSnapshotByIdAndUserId(id, userId).orElseThrow(() -> {
+            if (transactionRepository.existsById(id)) {
+                return new SecurityException("Unauthorized to " + action + " this transaction");
+            }
+            return new IllegalArgumentException("Transaction not found with id: " + id);
+        });
+    }
+
+    // Throwing rolls the transaction back before any rollup, version or index side effect commits
+    private static void requireWritten(int count, Long id) {
+        if (count == 0) {
+            throw new IllegalArgumentException("Transaction not found with id: " + id);
         }
-        transactionRepository.deleteById(id);
     }
 
     @Override
-    public Page<Transaction> getTransactionsWithFilters(
+    @Transactional(readOnly = true)
+    public Page<TransactionResponse> getTransactionsWithFilters(
             Long userId,
             TransactionType type,
             Long categoryId,
@@ -82,25 +134,160 @@ public class TransactionServiceImpl implements TransactionService {
             LocalDate endDate,
             Pageable pageable
     ) {
-        // Handle all filter combinations
-        if (type != null && categoryId != null && startDate != null && endDate != null) {
-            return transactionRepository.findByUserIdAndTypeAndCategoryIdAndDateBetween(userId, type, categoryId, startDate, endDate, pageable);
-        } else if (type != null && categoryId != null) {
-            return transactionRepository.
-                    findByUserIdAndTypeAndCategoryId(userId, type, categoryId, pageable);
-        } else if (type != null && startDate != null && endDate != null) {
-            return transactionRepository.findByUserIdAndTypeAndDateBetween(userId, type, startDate, endDate, pageable);
-        } else if (categoryId != null && startDate != null && endDate != null) {
-            return transactionRepository.findByUserIdAndCategoryIdAndDateBetween(userId, categoryId, startDate, endDate, pageable);
-        } else if (type != null) {
-            return transactionRepository.findByUserIdAndType(userId, type, pageable);
-        } else if (categoryId != null) {
-            return transactionRepository.findByUserIdAndCategoryId(userId, categoryId, pageable);
-        } else if (startDate != null && endDate != null) {
-            return transactionRepository.findByUserIdAndDateBetween(userId, startDate, endDate, pageable);
-        } else {
-            return transactionRepository.findByUserId(userId, pageable);
+        return transactionRepository.findResponses(
+                TransactionSpecifications.withFilters(userId, type, categoryId, startDate, endDate),
+                pageable
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TransactionResponse> scrollTransactionsWithFilters(
+            Long userId,
+            TransactionType type,
+            Long categoryId,
+            LocalDate startDate,
+            LocalDate endDate,
+            TransactionCursor cursor,
+            int size
+    ) {
+        // Fetch one extra row to know whether another page follows
+        List<TransactionResponse> rows = transactionRepository.findResponsesAfter(
+                TransactionSpecifications.withFilters(userId, type, categoryId, startDate, endDate),
+                cursor,
+                size + 1
+        );
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            TransactionResponse last = rows.get(size - 1);
+            nextCursor = new TransactionCursor(last.getDate(), last.getId()).encode();
+        }
+        return new CursorPageResponse<>(rows, rows.size(), nextCursor);
+    }
+
+    @Override
+    @Transactional
+    public int deleteTransactions(Collection<Long> ids, Long userId) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = delete(userId, transactionRepository.findSnapshotsForUpdate(userId, ids));
+        if (deleted > 0) {
+            dataVersionService.bumpVersion(userId);
+        }
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public int deleteTransactionsWithFilters(
+            Long userId,
+            TransactionType type,
+            Long categoryId,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        Specification<Transaction> spec = TransactionSpecifications.withFilters(userId, type, categoryId, startDate, endDate);
+        // Locks and deletes one batch at a time in id order; each batch deletes exactly the rows it locked
+        int deleted = 0;
+        Long afterId = null;
+        List<TransactionSnapshot> batch;
+        do {
+            batch = transactionRepository.findSnapshotsForUpdate(spec, afterId, MAX_IDS_PER_STATEMENT);
+            deleted += delete(userId, batch);
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == MAX_IDS_PER_STATEMENT);
+        if (deleted > 0) {
+            dataVersionService.bumpVersion(userId);
+        }
+        return deleted;
+    }
+
+    // Removes locked rows and their rollup and index entries; the caller bumps the data version
+    private int delete(Long userId, List<TransactionSnapshot> locked) {
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = locked.stream().map(TransactionSnapshot::getId).toList();
+        rollupService.subtractAll(userId, aggregate(locked));
+        searchIndex.removed(userId, ids);
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_STATEMENT) {
+            deleted += transactionRepository.deleteByUserIdAndIdIn(userId,
+                    ids.subList(from, Math.min(ids.size(), from + MAX_IDS_PER_STATEMENT)));
+        }
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public int moveTransactions(Collection<Long> ids, Category category, Long userId) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<TransactionSnapshot> locked = transactionRepository.findSnapshotsForUpdate(userId, ids);
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        List<Long> lockedIds = locked.stream().map(TransactionSnapshot::getId).toList();
+        rollupService.moveAll(userId, aggregate(locked), category.getId());
+        dataVersionService.bumpVersion(userId);
+        searchIndex.recategorized(userId, lockedIds, category.getId());
+        return transactionRepository.updateCategoryByUserIdAndIdIn(userId, lockedIds, category);
+    }
+
+    // Sums locked rows per rollup key, the same grouping the rollups are stored in
+    private static List<MonthlyAggregate> aggregate(List<TransactionSnapshot> snapshots) {
+        Map<MonthlyRollupKey, SnapshotAggregate> totals = new LinkedHashMap<>();
+        for (TransactionSnapshot snapshot : snapshots) {
+            totals.merge(MonthlyRollupKey.of(snapshot), SnapshotAggregate.of(snapshot), SnapshotAggregate::plus);
         }
+        return List.copyOf(totals.values());
     }
 
+    private record SnapshotAggregate(Long categoryId, LocalDate monthStart, TransactionType type,
+                                     BigDecimal total, Long count) implements MonthlyAggregate {
+
+        static SnapshotAggregate of(TransactionSnapshot snapshot) {
+            return new SnapshotAggregate(snapshot.getCategoryId(), snapshot.getDate().withDayOfMonth(1),
+                    snapshot.getType(), snapshot.getAmount(), 1L);
+        }
+
+        SnapshotAggregate plus(SnapshotAggregate other) {
+            return new SnapshotAggregate(categoryId, monthStart, type, total.add(other.total), count + other.count);
+        }
+
+        @Override
+        public Long getCategoryId() {
+            return categoryId;
+        }
+
+        @Override
+        public Integer getPeriodYear() {
+            return monthStart.getYear();
+        }
+
+        @Override
+        public Integer getPeriodMonth() {
+            return monthStart.getMonthValue();
+        }
+
+        @Override
+        public TransactionType getType() {
+            return type;
+        }
+
+        @Override
+        public BigDecimal getTotal() {
+            return total;
+        }
+
+        @Override
+        public Long getCount() {
+            return count;
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package com.yogendra.finance_tracker.service.impl;
+
+import com.yogendra.finance_tracker.dto.CategoryTotalResponse;
+import com.yogendra.finance_tracker.dto.MonthlyTotalResponse;
+import com.yogendra.finance_tracker.dto.TypeTotalResponse;
+import com.yogendra.finance_tracker.exception.InvalidRequestException;
+import com.yogendra.finance_tracker.repository.MonthlyRollupRepository;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.service.TransactionSummaryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class TransactionSummaryServiceImpl implements TransactionSummaryService {
+
+    private final TransactionRepository transactionRepository;
+    private final MonthlyRollupRepository rollupRepository;
+
+    @Autowired
+    public TransactionSummaryServiceImpl(TransactionRepository transactionRepository,
+                                         MonthlyRollupRepository rollupRepository) {
+        this.transactionRepository = transactionRepository;
+        this.rollupRepository = rollupRepository;
+    }
+
+    // Ranges that cover whole months are served from the rollup table; anything else scans raw rows
+
+    @Override
+    public List<TypeTotalResponse> getTotalsByType(Long userId, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        if (coversWholeMonths(startDate, endDate)) {
+            return rollupRepository.sumByType(userId, monthOf(startDate), monthOf(endDate));
+        }
+        return transactionRepository.sumByType(userId, startDate, endDate);
+    }
+
+    @Override
+    public List<CategoryTotalResponse> getTotalsByCategory(Long userId, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        if (coversWholeMonths(startDate, endDate)) {
+            return rollupRepository.sumByCategory(userId, monthOf(startDate), monthOf(endDate));
+        }
+        return transactionRepository.sumByCategory(userId, startDate, endDate);
+    }
+
+    @Override
+    public List<MonthlyTotalResponse> getTotalsByMonth(Long userId, LocalDate startDate, LocalDate endDate) {
+        validateRange(startDate, endDate);
+        if (coversWholeMonths(startDate, endDate)) {
+            return rollupRepository.sumByMonth(userId, monthOf(startDate), monthOf(endDate));
+        }
+        return transactionRepository.sumByMonth(userId, startDate, endDate);
+    }
+
+    private void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new InvalidRequestException("Start date must not be after end date");
+        }
+    }
+
+    private boolean coversWholeMonths(LocalDate startDate, LocalDate endDate) {
+        return (startDate == null || startDate.getDayOfMonth() == 1)
+                && (endDate == null || endDate.getDayOfMonth() == endDate.lengthOfMonth());
+    }
+
+    private LocalDate monthOf(LocalDate date) {
+        return date != null ? date.withDayOfMonth(1) : null;
+    }
+}
@@ -4,6 +4,7 @@ import com.yogendra.finance_tracker.dto.UserRequest;
 import com.yogendra.finance_tracker.dto.UserResponse;
 import com.yogendra.finance_tracker.model.User;
 import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.security.UserDetailsCache;
 import com.yogendra.finance_tracker.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
@@ -23,11 +24,19 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
+    private final CategoryCache categoryCache;
+    private final TransactionSearchIndex searchIndex;
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                           UserDetailsCache userDetailsCache, CategoryCache categoryCache,
+                           TransactionSearchIndex searchIndex) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsCache = userDetailsCache;
+        this.categoryCache = categoryCache;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -71,6 +80,9 @@ public class UserServiceImpl implements UserService {
     public UserResponse updateUser(Long id, UserRequest userRequest) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
+        // Evict both the old and the new email, since either may be cached
+        userDetailsCache.evict(user.getEmail());
+        userDetailsCache.evict(userRequest.getEmail());
         user.setName(userRequest.getName());
         user.setEmail(userRequest.getEmail());
         if (userRequest.getPassword() != null && !userRequest.getPassword().isBlank()) {
@@ -83,10 +95,13 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new EntityNotFoundException("User not found with id: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + id));
+        userDetailsCache.evict(user.getEmail());
+        userRepository.delete(user);
+        // The user's categories go with the account through the cascade
+        categoryCache.evictUser(id);
+        searchIndex.evictUser(id);
         logger.info("Deleted user with id: {}", id);
     }
 }
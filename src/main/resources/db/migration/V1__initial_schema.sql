@@ -0,0 +1,35 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+
+create table users (
+    id bigint not null auto_increment,
+    password varchar(60) not null,
+    email varchar(255) not null,
+    name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table category (
+    id bigint not null auto_increment,
+    user_id bigint,
+    color varchar(255),
+    name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table transaction (
+    amount decimal(38,2) not null,
+    date date not null,
+    category_id bigint,
+    id bigint not null auto_increment,
+    user_id bigint,
+    description varchar(255),
+    type enum ('EXPENSE','INCOME') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table category add constraint FK7ffrpnxaflomhdh0qfk2jcndo foreign key (user_id) references users (id);
+alter table transaction add constraint FKgik7ruym8r1n4xngrclc6kiih foreign key (category_id) references category (id);
+alter table transaction add constraint FKanjpo5tiapru7an6cw4cu37y4 foreign key (user_id) references users (id);
@@ -0,0 +1,28 @@
+-- Per-user totals for each month, category and type, maintained with every transaction write
+-- so reports never scan the transaction table. Kept out of V1 because databases created by
+-- ddl-auto=update are baselined at V1 and never had this table.
+
+create table monthly_rollup (
+    month_start date not null,
+    total decimal(38,2) not null,
+    category_id bigint,
+    id bigint not null auto_increment,
+    txn_count bigint not null,
+    -- category_id, or 0 for uncategorized rows: unique keys treat nulls as distinct
+    category_key bigint not null,
+    user_id bigint not null,
+    type enum ('EXPENSE','INCOME') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table monthly_rollup add constraint uk_monthly_rollup_key unique (user_id, month_start, category_key, type);
+
+alter table monthly_rollup add constraint FKc5r5e2gbepwvx22lcy72cyviy foreign key (category_id) references category (id) on delete cascade;
+alter table monthly_rollup add constraint FKd7rnhh87by435iqvuu91qq4w5 foreign key (user_id) references users (id) on delete cascade;
+
+insert into monthly_rollup (user_id, category_id, category_key, month_start, type, total, txn_count)
+select user_id, category_id, coalesce(category_id, 0),
+       cast(concat(year(date), '-', lpad(month(date), 2, '0'), '-01') as date),
+       type, sum(amount), count(*)
+from transaction where user_id is not null
+group by user_id, category_id, year(date), month(date), type;
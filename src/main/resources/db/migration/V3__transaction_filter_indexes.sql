@@ -0,0 +1,6 @@
+-- Composite indexes backing every filter combination of the transaction listing.
+-- Each ends in (date, id) so range filters and the (date, id) keyset order use the same index.
+
+create index idx_transaction_user_date on transaction (user_id, date, id);
+create index idx_transaction_user_category_date on transaction (user_id, category_id, date, id);
+create index idx_transaction_user_type_date on transaction (user_id, type, date, id);
@@ -0,0 +1,12 @@
+-- Pooled id generator for transaction so Hibernate can batch inserts (IDENTITY disables batching).
+-- With the pooled optimizer the stored value is the upper end of the next block of 50 ids,
+-- so seeding it at max(id) + 50 makes the first generated id max(id) + 1.
+
+create table id_generator (
+    name varchar(64) not null,
+    next_val bigint not null,
+    primary key (name)
+) engine=InnoDB;
+
+insert into id_generator (name, next_val)
+select 'transaction', coalesce(max(id), 0) + 50 from transaction;
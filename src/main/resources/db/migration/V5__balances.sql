@@ -0,0 +1,37 @@
+-- All-time income and expense totals per user and per category, maintained with every
+-- transaction write so the current balance is a primary-key read.
+
+create table account_balance (
+    user_id bigint not null,
+    income decimal(38,2) not null,
+    expense decimal(38,2) not null,
+    txn_count bigint not null,
+    primary key (user_id)
+) engine=InnoDB;
+
+create table category_balance (
+    user_id bigint not null,
+    category_id bigint not null,
+    income decimal(38,2) not null,
+    expense decimal(38,2) not null,
+    txn_count bigint not null,
+    primary key (user_id, category_id)
+) engine=InnoDB;
+
+alter table account_balance add constraint fk_account_balance_user foreign key (user_id) references users (id) on delete cascade;
+alter table category_balance add constraint fk_category_balance_user foreign key (user_id) references users (id) on delete cascade;
+alter table category_balance add constraint fk_category_balance_category foreign key (category_id) references category (id) on delete cascade;
+
+insert into account_balance (user_id, income, expense, txn_count)
+select user_id,
+       coalesce(sum(case when type = 'INCOME' then amount end), 0),
+       coalesce(sum(case when type = 'EXPENSE' then amount end), 0),
+       count(*)
+from transaction where user_id is not null group by user_id;
+
+insert into category_balance (user_id, category_id, income, expense, txn_count)
+select user_id, category_id,
+       coalesce(sum(case when type = 'INCOME' then amount end), 0),
+       coalesce(sum(case when type = 'EXPENSE' then amount end), 0),
+       count(*)
+from transaction where user_id is not null and category_id is not null group by user_id, category_id;
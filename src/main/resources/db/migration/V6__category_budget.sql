@@ -0,0 +1,3 @@
+-- Optional monthly spending limit per category; spend is read from monthly_rollup.
+
+alter table category add column monthly_budget decimal(38,2);
@@ -0,0 +1,24 @@
+-- Templates for transactions that repeat on a schedule. next_run_date is the first occurrence
+-- not yet posted (null once the template has ended); occurrence_count is how many were posted
+-- and doubles as the claim version when a scheduler worker advances the template.
+
+create table recurring_transaction (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    category_id bigint not null,
+    amount decimal(38,2) not null,
+    type enum ('EXPENSE','INCOME') not null,
+    description varchar(255),
+    frequency enum ('DAILY','WEEKLY','MONTHLY','YEARLY') not null,
+    interval_count integer not null,
+    start_date date not null,
+    end_date date,
+    next_run_date date,
+    occurrence_count bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_recurring_next_run on recurring_transaction (next_run_date, user_id, id);
+
+alter table recurring_transaction add constraint fk_recurring_transaction_user foreign key (user_id) references users (id) on delete cascade;
+alter table recurring_transaction add constraint fk_recurring_transaction_category foreign key (category_id) references category (id) on delete cascade;
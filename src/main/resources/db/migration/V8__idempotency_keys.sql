@@ -0,0 +1,17 @@
+-- Responses to requests sent with an Idempotency-Key header, kept for retries. A row without a
+-- status code is a claim by a request that is still running.
+
+create table idempotency_record (
+    user_id bigint not null,
+    idempotency_key varchar(255) not null,
+    request_hash varchar(64) not null,
+    status_code integer,
+    location varchar(255),
+    response_body varchar(4000),
+    created_at datetime(6) not null,
+    primary key (user_id, idempotency_key)
+) engine=InnoDB;
+
+create index idx_idempotency_record_created_at on idempotency_record (created_at);
+
+alter table idempotency_record add constraint fk_idempotency_record_user foreign key (user_id) references users (id) on delete cascade;
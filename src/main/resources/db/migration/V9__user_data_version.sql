@@ -0,0 +1,4 @@
+-- Per-user version of the transaction and category listings, advanced by every write in the
+-- writing transaction so listing ETags hold across restarts and instances.
+
+alter table users add column data_version bigint not null default 0;
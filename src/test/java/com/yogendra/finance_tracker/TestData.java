@@ -0,0 +1,67 @@
+package com.yogendra.finance_tracker;
+
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.CategoryRepository;
+import com.yogendra.finance_tracker.repository.MonthlyRollupRepository;
+import com.yogendra.finance_tracker.repository.RecurringTransactionRepository;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared fixture for the integration tests: empties the tables between tests and saves the
+ * users and categories they start from.
+ */
+@Component
+public class TestData {
+
+    public static final String PASSWORD = "password";
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionRepository transactionRepository;
+    private final RecurringTransactionRepository recurringRepository;
+    private final MonthlyRollupRepository rollupRepository;
+
+    @Autowired
+    public TestData(UserRepository userRepository, CategoryRepository categoryRepository,
+                    TransactionRepository transactionRepository, RecurringTransactionRepository recurringRepository,
+                    MonthlyRollupRepository rollupRepository) {
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.transactionRepository = transactionRepository;
+        this.recurringRepository = recurringRepository;
+        this.rollupRepository = rollupRepository;
+    }
+
+    // Children first; balances and idempotency records go with their user
+    public void reset() {
+        transactionRepository.deleteAll();
+        recurringRepository.deleteAll();
+        rollupRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    public User saveUser(String email) {
+        return saveUser(email, PASSWORD);
+    }
+
+    // For tests that log in, which need the password stored encoded
+    public User saveUser(String email, String password) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName("Test User");
+        user.setPassword(password);
+        return userRepository.save(user);
+    }
+
+    public Category saveCategory(User owner, String name) {
+        Category category = new Category();
+        category.setName(name);
+        category.setUser(owner);
+        return categoryRepository.save(category);
+    }
+}
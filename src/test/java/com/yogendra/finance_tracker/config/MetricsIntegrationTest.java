@@ -0,0 +1,90 @@
+package com.yogendra.finance_tracker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yogendra.finance_tracker.TestData;
+import com.yogendra.finance_tracker.dto.AuthRequest;
+import com.yogendra.finance_tracker.dto.AuthResponse;
+import com.yogendra.finance_tracker.security.UserDetailsCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    private static final String TEST_PASSWORD = "password";
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+        userDetailsCache.invalidateAll();
+
+        testData.saveUser(TEST_EMAIL, passwordEncoder.encode(TEST_PASSWORD));
+    }
+
+    @Test
+    void prometheusEndpoint_shouldExposeRequestSecurityAndPersistenceMetrics() throws Exception {
+        String response = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest(TEST_EMAIL, TEST_PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readValue(response, AuthResponse.class).getToken();
+        mockMvc.perform(get("/api/categories")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // On the API port the scrape endpoint needs a token like any other endpoint
+        mockMvc.perform(get("/actuator/prometheus")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("uri=\"/api/categories\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_count{")))
+                .andExpect(content().string(containsString("jwt_verification_seconds_count{result=\"valid\"}")))
+                .andExpect(content().string(containsString("jwt_generation_seconds_count")))
+                .andExpect(content().string(containsString("security_password_encoder_seconds_count{operation=\"matches\"}")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"userDetails\"")))
+                .andExpect(content().string(containsString("hibernate_request_statements_count{method=\"GET\",uri=\"/api/categories\"}")))
+                .andExpect(content().string(containsString("hibernate_request_entity_loads_count")))
+                .andExpect(content().string(containsString("hibernate_entities_loads_total")));
+    }
+
+    @Test
+    void actuator_shouldNotExposeOtherEndpointsAnonymously() throws Exception {
+        mockMvc.perform(get("/actuator/env"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,153 @@
+package com.yogendra.finance_tracker.config;
+
+import com.yogendra.finance_tracker.TestData;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.repository.UserRepository;
+import com.yogendra.finance_tracker.service.TransactionService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "jdbc.connection-limit.max-concurrent=2",
+        "jdbc.connection-limit.acquire-timeout=100ms"
+})
+class VirtualThreadConfigIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        testData.reset();
+    }
+
+    private Connection connectOnOtherThread() throws Exception {
+        return executor.submit(() -> dataSource.getConnection()).get();
+    }
+
+    @Test
+    void dataSource_shouldBeLimitedAndStillUnwrapToPool() throws Exception {
+        ConnectionLimitingDataSource limited = assertInstanceOf(ConnectionLimitingDataSource.class, dataSource);
+        assertTrue(limited.isWrapperFor(HikariDataSource.class));
+
+        User user = new User();
+        user.setEmail("virtual@example.com");
+        user.setName("Virtual User");
+        user.setPassword("password");
+        userRepository.save(user);
+        userRepository.delete(user);
+
+        // Repository calls must hand their permits back
+        assertEquals(2, limited.availablePermits());
+    }
+
+    @Test
+    void getConnection_beyondLimit_shouldFailFastAndReleaseOnClose() throws Exception {
+        ConnectionLimitingDataSource limited = (ConnectionLimitingDataSource) dataSource;
+        // Each permit is taken on its own thread; a thread holding one would bypass the limit
+        try (Connection first = limited.getConnection(); Connection second = connectOnOtherThread()) {
+            ExecutionException thrown = assertThrows(ExecutionException.class, this::connectOnOtherThread);
+            assertInstanceOf(SQLTransientConnectionException.class, thrown.getCause());
+            second.close();
+            // Closing twice must not release a second permit
+            second.close();
+            assertEquals(1, limited.availablePermits());
+        }
+        assertEquals(2, limited.availablePermits());
+    }
+
+    @Test
+    void getConnection_whileHoldingPermit_shouldNotWaitForAnother() throws Exception {
+        ConnectionLimitingDataSource limited = (ConnectionLimitingDataSource) dataSource;
+        long timeoutsBefore = limited.timeoutCount();
+        try (Connection first = limited.getConnection(); Connection second = connectOnOtherThread()) {
+            try (Connection nested = limited.getConnection()) {
+                assertEquals(0, limited.availablePermits());
+            }
+        }
+        assertEquals(2, limited.availablePermits());
+        assertEquals(timeoutsBefore, limited.timeoutCount());
+    }
+
+    @Test
+    void concurrentInserts_shouldNotStarveTheIdGenerator() throws Exception {
+        ConnectionLimitingDataSource limited = (ConnectionLimitingDataSource) dataSource;
+        long timeoutsBefore = limited.timeoutCount();
+        int perThread = 120;
+
+        // As many writers as permits, so every id block is fetched while both permits are held
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            User owner = testData.saveUser("writer" + i + "@example.com");
+            Category category = testData.saveCategory(owner, "Food");
+            writers.add(executor.submit(() -> {
+                for (int n = 0; n < perThread; n++) {
+                    Transaction tx = new Transaction();
+                    tx.setAmount(BigDecimal.ONE);
+                    tx.setType(TransactionType.EXPENSE);
+                    tx.setDate(LocalDate.of(2025, 5, 1));
+                    tx.setCategory(category);
+                    transactionService.createTransaction(tx, owner.getId());
+                }
+                return null;
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+
+        assertEquals(2L * perThread, transactionRepository.count());
+        assertEquals(timeoutsBefore, limited.timeoutCount());
+        assertEquals(2, limited.availablePermits());
+    }
+
+    @Test
+    void limiter_shouldPublishPermitGauges() throws Exception {
+        assertEquals(2, meterRegistry.get("jdbc.connection.limit.available").gauge().value());
+        try (Connection connection = dataSource.getConnection()) {
+            assertEquals(1, meterRegistry.get("jdbc.connection.limit.available").gauge().value());
+        }
+        assertEquals(0, meterRegistry.get("jdbc.connection.limit.waiting").gauge().value());
+    }
+}
@@ -0,0 +1,134 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yogendra.finance_tracker.TestData;
+import com.yogendra.finance_tracker.dto.AuthRequest;
+import com.yogendra.finance_tracker.dto.AuthResponse;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.security.JwtTokenProvider;
+import com.yogendra.finance_tracker.security.UserDetailsCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    private static final String TEST_PASSWORD = "password";
+    private Long userId;
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+        // Rows are removed directly through the repositories, bypassing the service eviction hooks
+        userDetailsCache.invalidateAll();
+
+        userId = testData.saveUser(TEST_EMAIL, passwordEncoder.encode(TEST_PASSWORD)).getId();
+    }
+
+    private String login() throws Exception {
+        String response = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest(TEST_EMAIL, TEST_PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, AuthResponse.class).getToken();
+    }
+
+    @Test
+    void login_shouldReturnTokenWithUserId() throws Exception {
+        String token = login();
+        assertEquals(TEST_EMAIL, jwtTokenProvider.getUsernameFromToken(token));
+        assertEquals(userId, jwtTokenProvider.getUserIdFromToken(token));
+    }
+
+    @Test
+    void login_withWrongPassword_shouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest(TEST_EMAIL, "wrong"))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void bearerToken_shouldAuthenticateRequests() throws Exception {
+        String token = login();
+        mockMvc.perform(get("/api/categories")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void bearerToken_forDifferentUserId_shouldBeRejected() throws Exception {
+        String token = jwtTokenProvider.generateToken(TEST_EMAIL, userId + 1);
+        mockMvc.perform(get("/api/categories")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void updatePassword_shouldTakeEffectImmediately() throws Exception {
+        String token = login();
+        long invalidationsBefore = userDetailsCache.invalidationCount();
+
+        mockMvc.perform(put("/api/users/{id}", userId)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Test User", "email": "%s", "password": "newpassword"}
+                                """.formatted(TEST_EMAIL)))
+                .andExpect(status().isOk());
+
+        assertTrue(userDetailsCache.invalidationCount() > invalidationsBefore);
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest(TEST_EMAIL, TEST_PASSWORD))))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest(TEST_EMAIL, "newpassword"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deletedUser_tokenShouldBeRejected() throws Exception {
+        String token = login();
+        mockMvc.perform(delete("/api/users/{id}", userId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/categories")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+}
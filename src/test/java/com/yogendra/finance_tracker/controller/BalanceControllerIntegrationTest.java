@@ -0,0 +1,223 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.TestData;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.service.BalanceService;
+import com.yogendra.finance_tracker.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BalanceControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    private User user;
+    private Category salary;
+    private Category rent;
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+
+        user = testData.saveUser(TEST_EMAIL);
+        salary = testData.saveCategory(user, "Salary");
+        rent = testData.saveCategory(user, "Rent");
+
+        save(salary, TransactionType.INCOME, 1000, LocalDate.of(2025, 5, 1));
+        save(salary, TransactionType.INCOME, 1000, LocalDate.of(2025, 6, 1));
+        save(rent, TransactionType.EXPENSE, 400, LocalDate.of(2025, 5, 3));
+        save(rent, TransactionType.EXPENSE, 450, LocalDate.of(2025, 6, 3));
+    }
+
+    // Goes through the service so the balances are maintained
+    private Transaction save(Category category, TransactionType type, long amount, LocalDate date) {
+        return transactionService.createTransaction(newTransaction(category, type, amount, date), user.getId());
+    }
+
+    private Transaction newTransaction(Category category, TransactionType type, long amount, LocalDate date) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(BigDecimal.valueOf(amount));
+        transaction.setType(type);
+        transaction.setDate(date);
+        transaction.setCategory(category);
+        return transaction;
+    }
+
+    private void expectNoMismatches() throws Exception {
+        mockMvc.perform(post("/api/balance/rebuild")
+                        .param("dryRun", "true")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mismatches").value(0));
+    }
+
+    @Test
+    void getBalance_shouldReturnTotalsAndBalance() throws Exception {
+        mockMvc.perform(get("/api/balance")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.income").value(2000))
+                .andExpect(jsonPath("$.expense").value(850))
+                .andExpect(jsonPath("$.balance").value(1150))
+                .andExpect(jsonPath("$.count").value(4));
+    }
+
+    @Test
+    void getCategoryBalances_shouldReturnOneRowPerCategory() throws Exception {
+        mockMvc.perform(get("/api/balance/by-category")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].categoryName").value("Rent"))
+                .andExpect(jsonPath("$[0].balance").value(-850))
+                .andExpect(jsonPath("$[1].categoryName").value("Salary"))
+                .andExpect(jsonPath("$[1].income").value(2000))
+                .andExpect(jsonPath("$[1].count").value(2));
+    }
+
+    @Test
+    void updateAndDelete_shouldMaintainBalances() throws Exception {
+        Transaction bonus = save(salary, TransactionType.INCOME, 300, LocalDate.of(2025, 6, 10));
+
+        // Change category, type and amount at once
+        transactionService.updateTransaction(bonus.getId(),
+                newTransaction(rent, TransactionType.EXPENSE, 50, LocalDate.of(2025, 6, 10)), user.getId());
+        mockMvc.perform(get("/api/balance")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(jsonPath("$.income").value(2000))
+                .andExpect(jsonPath("$.expense").value(900))
+                .andExpect(jsonPath("$.count").value(5));
+        expectNoMismatches();
+
+        transactionService.deleteTransaction(bonus.getId(), user.getId());
+        mockMvc.perform(get("/api/balance")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(jsonPath("$.balance").value(1150))
+                .andExpect(jsonPath("$.count").value(4));
+        expectNoMismatches();
+    }
+
+    @Test
+    void concurrentWriters_shouldNotLoseUpdates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Transaction>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                results.add(executor.submit(() -> save(salary, TransactionType.INCOME, 10, LocalDate.of(2025, 7, 1))));
+            }
+            for (Future<Transaction> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        mockMvc.perform(get("/api/balance")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(jsonPath("$.income").value(2400))
+                .andExpect(jsonPath("$.count").value(44));
+        expectNoMismatches();
+    }
+
+    @Test
+    void rebuild_shouldRepairRowsWrittenAroundTheService() throws Exception {
+        Transaction direct = newTransaction(salary, TransactionType.INCOME, 250, LocalDate.of(2025, 6, 20));
+        direct.setUser(user);
+        transactionRepository.save(direct);
+
+        // The account row and the Salary row are both off
+        mockMvc.perform(post("/api/balance/rebuild")
+                        .param("dryRun", "true")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mismatches").value(2))
+                .andExpect(jsonPath("$.repaired").value(false));
+
+        mockMvc.perform(post("/api/balance/rebuild")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.repaired").value(true))
+                .andExpect(jsonPath("$.rowsAfter").value(3));
+
+        mockMvc.perform(get("/api/balance")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(jsonPath("$.income").value(2250))
+                .andExpect(jsonPath("$.count").value(5));
+        expectNoMismatches();
+    }
+
+    @Test
+    void rebuild_shouldApplyWritesThatWaitedOnIt() throws Exception {
+        Transaction direct = newTransaction(salary, TransactionType.INCOME, 250, LocalDate.of(2025, 6, 20));
+        direct.setUser(user);
+        transactionRepository.save(direct);
+
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            Future<Transaction> write = new TransactionTemplate(transactionManager).execute(status -> {
+                balanceService.rebuild(user.getId(), false);
+                Future<Transaction> pending = writer.submit(
+                        () -> save(salary, TransactionType.INCOME, 100, LocalDate.of(2025, 6, 21)));
+                // The write cannot commit while the rebuild holds the user's row
+                assertThrows(TimeoutException.class, () -> pending.get(200, TimeUnit.MILLISECONDS));
+                return pending;
+            });
+            write.get(5, TimeUnit.SECONDS);
+        } finally {
+            writer.shutdownNow();
+        }
+
+        // The repaired totals include the direct row, and the waiting write landed on top of them
+        mockMvc.perform(get("/api/balance")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(jsonPath("$.income").value(2350))
+                .andExpect(jsonPath("$.count").value(6));
+        expectNoMismatches();
+    }
+}
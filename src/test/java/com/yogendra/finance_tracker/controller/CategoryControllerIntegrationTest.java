@@ -8,6 +8,10 @@ import com.yogendra.finance_tracker.model.User;
 import com.yogendra.finance_tracker.repository.CategoryRepository;
 import com.yogendra.finance_tracker.repository.TransactionRepository;
 import com.yogendra.finance_tracker.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +20,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -39,6 +45,12 @@ class CategoryControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private static final String TEST_EMAIL = "user@example.com";
     private Long categoryId;
 
@@ -126,4 +138,131 @@ class CategoryControllerIntegrationTest {
                         .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void getCategories_repeated_shouldBeServedFromCache() throws Exception {
+        double hitsBefore = cacheHits("userCategories");
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/categories")
+                            .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)));
+        }
+        // Creating the category in setup evicted the list, so only the first call loads it
+        assertEquals(2.0, cacheHits("userCategories") - hitsBefore);
+    }
+
+    @Test
+    void updateAndDelete_shouldEvictCachedEntries() throws Exception {
+        mockMvc.perform(get("/api/categories")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(jsonPath("$[0].name").value("Salary"));
+        mockMvc.perform(get("/api/categories/{id}", categoryId)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(jsonPath("$.name").value("Salary"));
+
+        mockMvc.perform(put("/api/categories/{id}", categoryId)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Wages\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/categories")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(jsonPath("$[0].name").value("Wages"));
+        mockMvc.perform(get("/api/categories/{id}", categoryId)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(jsonPath("$.name").value("Wages"));
+
+        mockMvc.perform(delete("/api/categories/{id}", categoryId)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/categories")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void getCategories_withMatchingETag_shouldReturnNotModifiedUntilCategoryChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/categories")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/categories")
+                        .header("If-None-Match", etag)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/categories/{id}", categoryId)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Wages\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/categories")
+                        .header("If-None-Match", etag)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Wages"));
+    }
+
+    private void createExpense(long categoryId, int amount, String date) throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount": %d, "type": "EXPENSE", "date": "%s", "categoryId": %d}
+                                """.formatted(amount, date, categoryId)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void getBudgetStatus_shouldReportMonthlySpendAgainstBudget() throws Exception {
+        String response = mockMvc.perform(post("/api/categories")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Groceries\", \"monthlyBudget\": 300}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.monthlyBudget").value(300))
+                .andReturn().getResponse().getContentAsString();
+        Long groceriesId = objectMapper.readValue(response, CategoryResponse.class).getId();
+
+        createExpense(groceriesId, 120, "2025-06-03");
+        createExpense(groceriesId, 250, "2025-06-20");
+        // Other months do not count
+        createExpense(groceriesId, 90, "2025-05-30");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/categories/budgets")
+                        .param("month", "2025-06")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].categoryName").value("Groceries"))
+                .andExpect(jsonPath("$[0].spent").value(370))
+                .andExpect(jsonPath("$[0].remaining").value(-70))
+                .andExpect(jsonPath("$[0].overBudget").value(true))
+                .andExpect(jsonPath("$[1].categoryName").value("Salary"))
+                .andExpect(jsonPath("$[1].spent").value(0))
+                .andExpect(jsonPath("$[1].monthlyBudget").doesNotExist());
+        // Caller lookup (jwt() principal) and one joined read
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void createCategory_withNegativeBudget_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/categories")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Groceries\", \"monthlyBudget\": -5}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("Monthly budget must not be negative"));
+    }
+
+    private double cacheHits(String cache) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", "hit").functionCounter().count();
+    }
 }
@@ -0,0 +1,222 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.TestData;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.RecurrenceFrequency;
+import com.yogendra.finance_tracker.model.RecurringTransaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.RecurringTransactionRepository;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.service.RecurringTransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RecurringTransactionControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private RecurringTransactionRepository recurringRepository;
+
+    @Autowired
+    private RecurringTransactionService recurringTransactionService;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    // Scheduler tests run in the future so the real scheduler, which uses today's date, never sees them due
+    private static final LocalDate FUTURE_START = LocalDate.of(2100, 1, 1);
+    private User user;
+    private Category rent;
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+
+        user = testData.saveUser(TEST_EMAIL);
+        rent = testData.saveCategory(user, "Rent");
+    }
+
+    // Saved directly, so nothing is posted until the scheduler runs
+    private RecurringTransaction newTemplate(User owner, Category category, RecurrenceFrequency frequency,
+                                             LocalDate startDate, LocalDate endDate) {
+        RecurringTransaction recurring = new RecurringTransaction();
+        recurring.setUser(owner);
+        recurring.setCategory(category);
+        recurring.setAmount(BigDecimal.TEN);
+        recurring.setType(TransactionType.EXPENSE);
+        recurring.setFrequency(frequency);
+        recurring.setIntervalCount(1);
+        recurring.setStartDate(startDate);
+        recurring.setEndDate(endDate);
+        recurring.setNextRunDate(startDate);
+        return recurringRepository.save(recurring);
+    }
+
+    @Test
+    void createRecurringTransaction_shouldPostOccurrencesAlreadyDue() throws Exception {
+        LocalDate start = LocalDate.now().minusMonths(2);
+        mockMvc.perform(post("/api/recurring-transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount": 400, "type": "EXPENSE", "description": "Rent", "categoryId": %d,
+                                 "frequency": "MONTHLY", "startDate": "%s"}
+                                """.formatted(rent.getId(), start)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.occurrenceCount").value(3))
+                .andExpect(jsonPath("$.interval").value(1))
+                .andExpect(jsonPath("$.nextRunDate").value(start.plusMonths(3).toString()));
+
+        assertEquals(3, transactionRepository.count());
+        mockMvc.perform(get("/api/balance")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.expense").value(1200));
+        mockMvc.perform(get("/api/recurring-transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].description").value("Rent"));
+    }
+
+    @Test
+    void createRecurringTransaction_withEndBeforeStart_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/recurring-transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount": 400, "type": "EXPENSE", "categoryId": %d, "frequency": "MONTHLY",
+                                 "startDate": "2025-06-01", "endDate": "2025-05-01"}
+                                """.formatted(rent.getId())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("End date must not be before start date"));
+        assertEquals(0, recurringRepository.count());
+    }
+
+    @Test
+    void createRecurringTransaction_withOtherUsersCategory_shouldReturnNotFound() throws Exception {
+        Category foreign = testData.saveCategory(testData.saveUser("other@example.com"), "Other");
+        mockMvc.perform(post("/api/recurring-transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount": 400, "type": "EXPENSE", "categoryId": %d, "frequency": "MONTHLY",
+                                 "startDate": "2025-06-01"}
+                                """.formatted(foreign.getId())))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void materializeDue_shouldCatchUpOnceAndStopAtEndDate() {
+        RecurringTransaction daily = newTemplate(user, rent, RecurrenceFrequency.DAILY,
+                FUTURE_START, LocalDate.of(2100, 3, 31));
+
+        // Jan 1 to Feb 28 after two months of downtime
+        assertEquals(59, recurringTransactionService.materializeDue(LocalDate.of(2100, 2, 28)));
+        assertEquals(0, recurringTransactionService.materializeDue(LocalDate.of(2100, 2, 28)));
+        assertEquals(59, transactionRepository.count());
+
+        assertEquals(31, recurringTransactionService.materializeDue(LocalDate.of(2100, 6, 1)));
+        RecurringTransaction finished = recurringRepository.findById(daily.getId()).orElseThrow();
+        assertEquals(90, finished.getOccurrenceCount());
+        assertNull(finished.getNextRunDate());
+        assertEquals(90, transactionRepository.count());
+    }
+
+    @Test
+    void materializeDue_shouldPostAtMostTheCapPerTemplatePerRun() {
+        RecurringTransaction daily = newTemplate(user, rent, RecurrenceFrequency.DAILY, FUTURE_START, null);
+        LocalDate today = FUTURE_START.plusDays(1499);
+
+        // The default cap is 1000 per template; the rest waits for the next run
+        assertEquals(1000, recurringTransactionService.materializeDue(today));
+        assertEquals(500, recurringTransactionService.materializeDue(today));
+        assertEquals(0, recurringTransactionService.materializeDue(today));
+        assertEquals(1500, recurringRepository.findById(daily.getId()).orElseThrow().getOccurrenceCount());
+    }
+
+    @Test
+    void materializeDue_shouldKeepMonthEndAnchoredToStartDate() {
+        newTemplate(user, rent, RecurrenceFrequency.MONTHLY, LocalDate.of(2100, 1, 31), null);
+
+        recurringTransactionService.materializeDue(LocalDate.of(2100, 4, 30));
+
+        List<LocalDate> dates = transactionRepository.findAll().stream()
+                .map(transaction -> transaction.getDate())
+                .sorted()
+                .toList();
+        assertEquals(List.of(LocalDate.of(2100, 1, 31), LocalDate.of(2100, 2, 28),
+                LocalDate.of(2100, 3, 31), LocalDate.of(2100, 4, 30)), dates);
+    }
+
+    @Test
+    void materializeDue_concurrentRuns_shouldNotDoublePost() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            User owner = i == 0 ? user : testData.saveUser("user" + i + "@example.com");
+            Category category = i == 0 ? rent : testData.saveCategory(owner, "Rent");
+            newTemplate(owner, category, RecurrenceFrequency.WEEKLY, FUTURE_START, null);
+            newTemplate(owner, category, RecurrenceFrequency.DAILY, FUTURE_START, null);
+        }
+        LocalDate today = LocalDate.of(2100, 1, 28);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Long>> runs = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                runs.add(executor.submit(() -> recurringTransactionService.materializeDue(today)));
+            }
+            long posted = 0;
+            for (Future<Long> run : runs) {
+                posted += run.get();
+            }
+            // Per user: 4 weekly and 28 daily occurrences
+            assertEquals(6 * 32, posted);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(6 * 32, transactionRepository.count());
+    }
+
+    @Test
+    void deleteRecurringTransaction_shouldKeepPostedTransactions() throws Exception {
+        RecurringTransaction daily = newTemplate(user, rent, RecurrenceFrequency.DAILY, FUTURE_START, null);
+        recurringTransactionService.materializeDue(FUTURE_START.plusDays(2));
+
+        mockMvc.perform(delete("/api/recurring-transactions/" + daily.getId())
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/recurring-transactions/" + daily.getId())
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isNotFound());
+        assertEquals(3, transactionRepository.count());
+    }
+}
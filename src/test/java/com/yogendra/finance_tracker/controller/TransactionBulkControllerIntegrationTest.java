@@ -0,0 +1,182 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.TestData;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.MonthlyRollup;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.MonthlyRollupRepository;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.service.MonthlyRollupService;
+import com.yogendra.finance_tracker.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransactionBulkControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MonthlyRollupRepository rollupRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MonthlyRollupService rollupService;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    private User user;
+    private Category food;
+    private Category travel;
+    private Transaction may;
+    private Transaction june;
+    private Transaction othersTransaction;
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+
+        user = testData.saveUser(TEST_EMAIL);
+        food = testData.saveCategory(user, "Food");
+        travel = testData.saveCategory(user, "Travel");
+        may = save(user, food, TransactionType.EXPENSE, 20, LocalDate.of(2025, 5, 10));
+        june = save(user, food, TransactionType.EXPENSE, 30, LocalDate.of(2025, 6, 10));
+
+        User other = testData.saveUser("other@example.com");
+        othersTransaction = save(other, testData.saveCategory(other, "Other"), TransactionType.EXPENSE, 5, LocalDate.of(2025, 5, 1));
+    }
+
+    // Goes through the service so the monthly rollups are maintained
+    private Transaction save(User owner, Category category, TransactionType type, long amount, LocalDate date) {
+        Transaction tx = new Transaction();
+        tx.setAmount(BigDecimal.valueOf(amount));
+        tx.setType(type);
+        tx.setDate(date);
+        tx.setCategory(category);
+        return transactionService.createTransaction(tx, owner.getId());
+    }
+
+    @Test
+    void deleteByIds_SkipsOtherUsersTransactions() throws Exception {
+        mockMvc.perform(post("/api/transactions/bulk/delete")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[" + may.getId() + "," + othersTransaction.getId() + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(1));
+
+        assertThat(transactionRepository.existsById(may.getId())).isFalse();
+        assertThat(transactionRepository.existsById(othersTransaction.getId())).isTrue();
+        List<MonthlyRollup> rollups = rollupRepository.findByUserId(user.getId());
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getMonthStart()).isEqualTo(LocalDate.of(2025, 6, 1));
+    }
+
+    @Test
+    void deleteByIds_EmptyIds_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/transactions/bulk/delete")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("Transaction IDs are required"));
+    }
+
+    @Test
+    void deleteByFilter_DeletesMatchingRows() throws Exception {
+        mockMvc.perform(post("/api/transactions/bulk/delete-by-filter")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .param("startDate", "2025-06-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(1));
+
+        assertThat(transactionRepository.existsById(june.getId())).isFalse();
+        assertThat(rollupRepository.findByUserId(user.getId())).hasSize(1);
+    }
+
+    @Test
+    void deleteByFilter_BeyondOneBatch_DeletesEveryMatchingRow() throws Exception {
+        List<Transaction> july = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            Transaction tx = new Transaction();
+            tx.setAmount(BigDecimal.ONE);
+            tx.setType(TransactionType.EXPENSE);
+            tx.setDate(LocalDate.of(2025, 7, 1 + i % 28));
+            tx.setCategory(travel);
+            tx.setUser(user);
+            july.add(tx);
+        }
+        transactionRepository.saveAll(july);
+        rollupService.rebuild(user.getId(), false);
+
+        mockMvc.perform(post("/api/transactions/bulk/delete-by-filter")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .param("categoryId", travel.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2500));
+
+        assertThat(transactionRepository.count()).isEqualTo(3);
+        assertThat(rollupRepository.findByUserId(user.getId())).hasSize(2);
+    }
+
+    @Test
+    void deleteByFilter_WithoutFilters_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/transactions/bulk/delete-by-filter")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isBadRequest());
+
+        assertThat(transactionRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void move_RecategorisesAndMovesRollups() throws Exception {
+        mockMvc.perform(post("/api/transactions/bulk/move")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[" + may.getId() + "," + june.getId() + "],\"categoryId\":" + travel.getId() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+
+        assertThat(transactionRepository.findById(may.getId()).orElseThrow().getCategory().getId()).isEqualTo(travel.getId());
+        List<MonthlyRollup> rollups = rollupRepository.findByUserId(user.getId());
+        assertThat(rollups).hasSize(2);
+        assertThat(rollups).allMatch(r -> r.getCategory().getId().equals(travel.getId()));
+        assertThat(transactionService.getTransactionById(may.getId(), user.getId())).isPresent();
+    }
+
+    @Test
+    void move_ToOtherUsersCategory_ReturnsNotFound() throws Exception {
+        Category foreign = othersTransaction.getCategory();
+        mockMvc.perform(post("/api/transactions/bulk/move")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[" + may.getId() + "],\"categoryId\":" + foreign.getId() + "}"))
+                .andExpect(status().isNotFound());
+    }
+}
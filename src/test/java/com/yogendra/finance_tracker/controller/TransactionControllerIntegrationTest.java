@@ -19,6 +19,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -83,6 +89,86 @@ class TransactionControllerIntegrationTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void getTransactions_withOnlyStartDate_shouldFilter() throws Exception {
+        mockMvc.perform(get("/api/transactions")
+                        .param("startDate", "2025-06-02")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)));
+
+        mockMvc.perform(get("/api/transactions")
+                        .param("type", "INCOME")
+                        .param("startDate", "2025-06-01")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)));
+    }
+
+    @Test
+    void getTransactions_withMatchingETag_shouldReturnNotModifiedUntilWrite() throws Exception {
+        String etag = mockMvc.perform(get("/api/transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/transactions")
+                        .header("If-None-Match", etag)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // Another page or filter is a different representation
+        mockMvc.perform(get("/api/transactions")
+                        .param("type", "EXPENSE")
+                        .header("If-None-Match", etag)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount": 20, "type": "EXPENSE", "date": "2025-06-02", "categoryId": %d}
+                                """.formatted(categoryId)))
+                .andExpect(status().isCreated());
+
+        String newEtag = mockMvc.perform(get("/api/transactions")
+                        .header("If-None-Match", etag)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    void getTransactions_withReorderedParameters_shouldMatchETag() throws Exception {
+        String etag = mockMvc.perform(get("/api/transactions")
+                        .param("type", "EXPENSE")
+                        .param("sort", "date,desc", "amount,asc")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/transactions")
+                        .param("sort", "date,desc", "amount,asc")
+                        .param("type", "EXPENSE")
+                        .header("If-None-Match", etag)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isNotModified());
+
+        // The order of sort keys changes the listing
+        mockMvc.perform(get("/api/transactions")
+                        .param("type", "EXPENSE")
+                        .param("sort", "amount,asc", "date,desc")
+                        .header("If-None-Match", etag)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk());
+    }
+
     @Test
     void createTransaction_shouldReturnCreated() throws Exception {
         String txJson = String.format("""
@@ -143,5 +229,81 @@ class TransactionControllerIntegrationTest {
         mockMvc.perform(delete("/api/transactions/{id}", transactionId)
                         .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
                 .andExpect(status().isNoContent());
+        assertFalse(transactionRepository.existsById(transactionId));
+    }
+
+    @Test
+    void deleteTransaction_missing_shouldReturnNotFound() throws Exception {
+        mockMvc.perform(delete("/api/transactions/{id}", transactionId + 1000)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteTransaction_ofAnotherUser_shouldReturnForbidden() throws Exception {
+        User other = new User();
+        other.setEmail("other@example.com");
+        other.setName("Other User");
+        other.setPassword("password");
+        userRepository.save(other);
+
+        mockMvc.perform(delete("/api/transactions/{id}", transactionId)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", "other@example.com"))))
+                .andExpect(status().isForbidden());
+        assertTrue(transactionRepository.existsById(transactionId));
+    }
+
+    @Test
+    void getTransactionsByCursor_shouldWalkAllPagesNewestFirst() throws Exception {
+        User user = userRepository.findByEmail(TEST_EMAIL).orElseThrow();
+        Category category = categoryRepository.findById(categoryId).orElseThrow();
+        for (int day = 2; day <= 4; day++) {
+            Transaction transaction = new Transaction();
+            transaction.setAmount(BigDecimal.valueOf(day));
+            transaction.setType(TransactionType.EXPENSE);
+            transaction.setDate(LocalDate.of(2025, 6, day));
+            transaction.setCategory(category);
+            transaction.setUser(user);
+            transactionRepository.save(transaction);
+        }
+
+        String firstPage = mockMvc.perform(get("/api/transactions")
+                        .param("cursor", "")
+                        .param("size", "3")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.content[0].date").value("2025-06-04"))
+                .andExpect(jsonPath("$.content[2].date").value("2025-06-02"))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/transactions")
+                        .param("cursor", nextCursor)
+                        .param("size", "3")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id").value(transactionId))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    void getTransactionsByCursor_shouldApplyOpenEndedDateFilter() throws Exception {
+        mockMvc.perform(get("/api/transactions")
+                        .param("cursor", "")
+                        .param("startDate", "2025-06-02")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)));
+    }
+
+    @Test
+    void getTransactionsByCursor_withInvalidCursor_shouldBeRejected() throws Exception {
+        mockMvc.perform(get("/api/transactions")
+                        .param("cursor", "not-a-cursor")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
     }
 }
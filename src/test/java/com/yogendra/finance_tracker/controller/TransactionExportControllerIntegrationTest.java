@@ -0,0 +1,97 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.TestData;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransactionExportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    private Category category;
+    private Transaction older;
+    private Transaction newer;
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+
+        User user = testData.saveUser(TEST_EMAIL);
+        category = testData.saveCategory(user, "Food");
+
+        older = save(user, TransactionType.EXPENSE, "12.50", "Lunch, with \"friends\"", LocalDate.of(2025, 5, 1));
+        newer = save(user, TransactionType.INCOME, "100", null, LocalDate.of(2025, 6, 1));
+    }
+
+    private Transaction save(User user, TransactionType type, String amount, String description, LocalDate date) {
+        Transaction tx = new Transaction();
+        tx.setAmount(new BigDecimal(amount));
+        tx.setType(type);
+        tx.setDescription(description);
+        tx.setDate(date);
+        tx.setCategory(category);
+        tx.setUser(user);
+        return transactionRepository.save(tx);
+    }
+
+    private String export(String query) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/transactions/export" + query)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    @Test
+    void exportCsv_StreamsAllRowsNewestFirst() throws Exception {
+        String csv = export("");
+
+        assertThat(csv.split("\n")).containsExactly(
+                "id,date,amount,type,categoryId,categoryName,description",
+                newer.getId() + ",2025-06-01,100.00,INCOME," + category.getId() + ",Food,",
+                older.getId() + ",2025-05-01,12.50,EXPENSE," + category.getId() + ",Food,\"Lunch, with \"\"friends\"\"\""
+        );
+    }
+
+    @Test
+    void exportNdjson_HonorsFilters() throws Exception {
+        String ndjson = export("?format=NDJSON&type=EXPENSE");
+
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(lines[0]).contains("\"id\":" + older.getId()).contains("\"type\":\"EXPENSE\"");
+    }
+}
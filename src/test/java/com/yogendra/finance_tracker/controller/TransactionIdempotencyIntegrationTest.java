@@ -0,0 +1,204 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.TestData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yogendra.finance_tracker.dto.TransactionResponse;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.IdempotencyRecordRepository;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.service.impl.IdempotencyServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransactionIdempotencyIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private IdempotencyServiceImpl idempotencyService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    private User user;
+    private Category category;
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+
+        user = testData.saveUser(TEST_EMAIL);
+        category = testData.saveCategory(user, "Food");
+    }
+
+    private MockHttpServletResponse create(String email, String key, int amount, Long categoryId) throws Exception {
+        return mockMvc.perform(post("/api/transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", email)))
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount": %d, "type": "EXPENSE", "description": "Lunch", "date": "2025-06-10", "categoryId": %d}
+                                """.formatted(amount, categoryId)))
+                .andReturn().getResponse();
+    }
+
+    private Long id(MockHttpServletResponse response) throws Exception {
+        return objectMapper.readValue(response.getContentAsString(), TransactionResponse.class).getId();
+    }
+
+    @Test
+    void retry_shouldReplayStoredResponseWithoutWriting() throws Exception {
+        MockHttpServletResponse first = create(TEST_EMAIL, "key-1", 12, category.getId());
+        assertEquals(201, first.getStatus());
+        assertNull(first.getHeader("Idempotent-Replayed"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        MockHttpServletResponse retry = create(TEST_EMAIL, "key-1", 12, category.getId());
+        assertEquals(201, retry.getStatus());
+        assertEquals("true", retry.getHeader("Idempotent-Replayed"));
+        assertEquals(id(first), id(retry));
+        // Only the caller lookup of the jwt() principal; no category check, no insert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, transactionRepository.count());
+    }
+
+    @Test
+    void retry_afterLocalCacheIsLost_shouldReplayFromStore() throws Exception {
+        MockHttpServletResponse first = create(TEST_EMAIL, "key-1", 12, category.getId());
+        idempotencyService.invalidateAll();
+
+        MockHttpServletResponse retry = create(TEST_EMAIL, "key-1", 12, category.getId());
+        assertEquals(201, retry.getStatus());
+        assertEquals(id(first), id(retry));
+        assertEquals(1, transactionRepository.count());
+        assertEquals(1, idempotencyRecordRepository.count());
+    }
+
+    @Test
+    void reusedKeyWithDifferentBody_shouldReturnUnprocessableEntity() throws Exception {
+        create(TEST_EMAIL, "key-1", 12, category.getId());
+        assertEquals(422, create(TEST_EMAIL, "key-1", 13, category.getId()).getStatus());
+        assertEquals(1, transactionRepository.count());
+    }
+
+    @Test
+    void failedRequest_shouldNotBeStored() throws Exception {
+        assertEquals(404, create(TEST_EMAIL, "key-1", 12, 999999L).getStatus());
+        assertEquals(0, idempotencyRecordRepository.count());
+    }
+
+    @Test
+    void sameKeyFromAnotherUser_shouldBeIndependent() throws Exception {
+        User other = testData.saveUser("other@example.com");
+        Category otherCategory = testData.saveCategory(other, "Food");
+
+        create(TEST_EMAIL, "key-1", 12, category.getId());
+        MockHttpServletResponse response = create("other@example.com", "key-1", 12, otherCategory.getId());
+        assertEquals(201, response.getStatus());
+        assertNull(response.getHeader("Idempotent-Replayed"));
+        assertEquals(2, transactionRepository.count());
+    }
+
+    @Test
+    void concurrentDuplicates_shouldCreateOneTransaction() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<MockHttpServletResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> create(TEST_EMAIL, "key-1", 12, category.getId())));
+            }
+            Set<Long> ids = new HashSet<>();
+            for (Future<MockHttpServletResponse> result : results) {
+                MockHttpServletResponse response = result.get();
+                assertEquals(201, response.getStatus());
+                ids.add(id(response));
+            }
+            assertEquals(1, ids.size());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, transactionRepository.count());
+    }
+
+    @Test
+    void pendingClaimFromAnotherInstance_shouldReturnConflict() throws Exception {
+        idempotencyRecordRepository.insertClaim(user.getId(), "key-1", "other-request", now());
+
+        assertEquals(409, create(TEST_EMAIL, "key-1", 12, category.getId()).getStatus());
+        assertEquals(0, transactionRepository.count());
+    }
+
+    @Test
+    void abandonedClaim_shouldBeReleasedOnceItsLeaseRunsOut() throws Exception {
+        // Left behind by an instance that died while running the first request
+        idempotencyRecordRepository.insertClaim(user.getId(), "key-1", "other-request", now().minusMinutes(2));
+
+        MockHttpServletResponse response = create(TEST_EMAIL, "key-1", 12, category.getId());
+        assertEquals(201, response.getStatus());
+        assertEquals(1, transactionRepository.count());
+
+        idempotencyService.invalidateAll();
+        MockHttpServletResponse retry = create(TEST_EMAIL, "key-1", 12, category.getId());
+        assertEquals("true", retry.getHeader("Idempotent-Replayed"));
+        assertEquals(id(response), id(retry));
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @Test
+    void blankKey_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .header("Idempotency-Key", " ")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount": 12, "type": "EXPENSE", "date": "2025-06-10", "categoryId": %d}
+                                """.formatted(category.getId())))
+                .andExpect(status().isBadRequest());
+    }
+}
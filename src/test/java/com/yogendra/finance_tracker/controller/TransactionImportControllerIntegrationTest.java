@@ -0,0 +1,106 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.TestData;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.MonthlyRollup;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.MonthlyRollupRepository;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransactionImportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MonthlyRollupRepository rollupRepository;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    private User user;
+    private Category category;
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+
+        user = testData.saveUser(TEST_EMAIL);
+        category = testData.saveCategory(user, "Groceries");
+    }
+
+    @Test
+    void importCsv_ImportsValidRowsAndReportsInvalidOnes() throws Exception {
+        String csv = "date,amount,type,categoryId,description\n"
+                + "2025-05-01,10.50,EXPENSE," + category.getId() + ",\"Milk, eggs\"\n"
+                + "2025-05-02,-3,EXPENSE," + category.getId() + ",Negative\n"
+                + "2025-05-03,20,EXPENSE,999999,Unknown category\n"
+                + "2025-05-04,30,EXPENSE," + category.getId() + ",Bread\n";
+
+        mockMvc.perform(post("/api/transactions/import")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("Amount must be positive"))
+                .andExpect(jsonPath("$.errors[1].line").value(4));
+
+        assertThat(transactionRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void importCsv_MissingRequiredColumn_RejectsFile() throws Exception {
+        mockMvc.perform(post("/api/transactions/import")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType("text/csv")
+                        .content("date,amount\n2025-05-01,10\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(0))
+                .andExpect(jsonPath("$.errors[0].line").value(1));
+    }
+
+    @Test
+    void importNdjson_UpdatesMonthlyRollups() throws Exception {
+        String ndjson = "{\"amount\":100,\"type\":\"INCOME\",\"date\":\"2025-06-01\",\"categoryId\":" + category.getId() + "}\n"
+                + "\n"
+                + "{\"amount\":50,\"type\":\"INCOME\",\"date\":\"2025-06-15\",\"categoryId\":" + category.getId() + "}\n"
+                + "not json\n";
+
+        mockMvc.perform(post("/api/transactions/import")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(4));
+
+        List<MonthlyRollup> rollups = rollupRepository.findByUserId(user.getId());
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getTotal()).isEqualByComparingTo(new BigDecimal("150"));
+        assertThat(rollups.get(0).getCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,183 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.TestData;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yogendra.finance_tracker.dto.IngestionState;
+import com.yogendra.finance_tracker.dto.IngestionStatusResponse;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.service.impl.TransactionBatchWriter;
+import com.yogendra.finance_tracker.service.impl.TransactionIngestionServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransactionIngestionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionBatchWriter batchWriter;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    private User user;
+    private Category category;
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+
+        user = testData.saveUser(TEST_EMAIL);
+        category = testData.saveCategory(user, "Food");
+    }
+
+    private String transactionJson(int amount) {
+        return """
+                {"amount": %d, "type": "EXPENSE", "description": "Lunch", "date": "2025-06-10", "categoryId": %d}
+                """.formatted(amount, category.getId());
+    }
+
+    private JsonNode awaitCommitted(String location) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            String body = mockMvc.perform(get(location)
+                            .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode status = objectMapper.readTree(body);
+            if (!"PENDING".equals(status.get("state").asText()) || System.currentTimeMillis() > deadline) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void createTransaction_withRespondAsync_shouldQueueAndCommit() throws Exception {
+        String location = mockMvc.perform(post("/api/transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(transactionJson(12)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.trackingId").exists())
+                .andExpect(jsonPath("$.state").value("PENDING"))
+                .andReturn().getResponse().getHeader("Location");
+
+        JsonNode status = awaitCommitted(location);
+        assertEquals("COMMITTED", status.get("state").asText());
+        long id = status.get("transactionId").asLong();
+        mockMvc.perform(get("/api/transactions/" + id)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.amount").value(12));
+        mockMvc.perform(get("/api/balance")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(jsonPath("$.expense").value(12));
+
+        // Tracking ids are private to the submitting user
+        testData.saveUser("other@example.com");
+        mockMvc.perform(get(location)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", "other@example.com"))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void createTransaction_withRespondAsync_shouldStillCheckCategorySynchronously() throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount": 12, "type": "EXPENSE", "date": "2025-06-10", "categoryId": 999999}
+                                """))
+                .andExpect(status().isNotFound());
+    }
+
+    // Stand-alone queue over a writer that blocks until released, to fill the queue deterministically
+    @Test
+    void fullQueue_shouldRejectAndShutdownShouldDrain() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Transaction> written = Collections.synchronizedList(new ArrayList<>());
+        TransactionBatchWriter blockingWriter = new TransactionBatchWriter(null, null, null, null, null) {
+            @Override
+            public void writeAll(Map<Long, List<Transaction>> transactionsByUser) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                transactionsByUser.values().forEach(written::addAll);
+            }
+        };
+        TransactionIngestionServiceImpl ingestion = new TransactionIngestionServiceImpl(blockingWriter, true, 2, 500,
+                Duration.ofMinutes(5), Duration.ofSeconds(10), new SimpleMeterRegistry());
+        ingestion.start();
+
+        List<String> trackingIds = new ArrayList<>();
+        trackingIds.add(ingestion.submit(newTransaction(1), user.getId()).orElseThrow().getTrackingId());
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        trackingIds.add(ingestion.submit(newTransaction(2), user.getId()).orElseThrow().getTrackingId());
+        trackingIds.add(ingestion.submit(newTransaction(3), user.getId()).orElseThrow().getTrackingId());
+        assertTrue(ingestion.submit(newTransaction(4), user.getId()).isEmpty(), "queue of 2 is full");
+        for (String trackingId : trackingIds) {
+            assertEquals(IngestionState.PENDING, ingestion.getStatus(trackingId, user.getId()).orElseThrow().getState());
+        }
+
+        release.countDown();
+        ingestion.stop();
+
+        assertEquals(3, written.size());
+        for (String trackingId : trackingIds) {
+            Optional<IngestionStatusResponse> status = ingestion.getStatus(trackingId, user.getId());
+            assertEquals(IngestionState.COMMITTED, status.orElseThrow().getState());
+        }
+        assertFalse(ingestion.isAccepting());
+        assertTrue(ingestion.submit(newTransaction(5), user.getId()).isEmpty());
+    }
+
+    private Transaction newTransaction(int amount) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(BigDecimal.valueOf(amount));
+        transaction.setType(TransactionType.EXPENSE);
+        transaction.setDate(LocalDate.of(2025, 6, 10));
+        transaction.setCategory(category);
+        return transaction;
+    }
+}
@@ -0,0 +1,163 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.TestData;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.CategoryRepository;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Guards the projection read path: the number of SQL statements for a page must not grow
+ * with the number of rows (no per-row User/Category loads). Single-row writes must not load
+ * the Transaction entity either.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class TransactionQueryCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    private Long firstTransactionId;
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+
+        User user = testData.saveUser(TEST_EMAIL);
+
+        // A distinct category per row, so eager loading would cost one query per row
+        for (int i = 0; i < 30; i++) {
+            Category category = testData.saveCategory(user, "Category " + i);
+
+            Transaction transaction = new Transaction();
+            transaction.setAmount(BigDecimal.valueOf(i + 1));
+            transaction.setType(TransactionType.EXPENSE);
+            transaction.setDate(LocalDate.of(2025, 6, 1).plusDays(i % 28));
+            transaction.setCategory(category);
+            transaction.setUser(user);
+            transactionRepository.save(transaction);
+            if (firstTransactionId == null) {
+                firstTransactionId = transaction.getId();
+            }
+        }
+    }
+
+    private long statementsFor(String url, int expectedRows) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get(url)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(expectedRows)));
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void listingPage_shouldCostConstantStatements() throws Exception {
+        long smallPage = statementsFor("/api/transactions?page=0&size=5", 5);
+        long largePage = statementsFor("/api/transactions?page=0&size=25", 25);
+
+        assertEquals(smallPage, largePage);
+        // Caller lookup by email (jwt() principal), data version for the ETag, page content and count
+        assertEquals(4, largePage);
+    }
+
+    @Test
+    void cursorPage_shouldCostConstantStatements() throws Exception {
+        long smallPage = statementsFor("/api/transactions?cursor=&size=5", 5);
+        long largePage = statementsFor("/api/transactions?cursor=&size=25", 25);
+
+        assertEquals(smallPage, largePage);
+        // Caller lookup by email (jwt() principal), data version for the ETag and page content, no count
+        assertEquals(3, largePage);
+    }
+
+    @Test
+    void notModifiedListing_shouldOnlyReadCallerAndDataVersion() throws Exception {
+        String etag = mockMvc.perform(get("/api/transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/transactions")
+                        .header("If-None-Match", etag)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isNotModified());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getById_shouldCostOneQueryBesidesCallerLookup() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/transactions/{id}", firstTransactionId)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categoryName").value("Category 0"));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void update_shouldWriteWithoutLoadingTransaction() throws Exception {
+        Long categoryId = categoryRepository.findAll().get(0).getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(put("/api/transactions/{id}", firstTransactionId)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\":5,\"type\":\"EXPENSE\",\"date\":\"2025-06-01\",\"categoryId\":" + categoryId + "}"))
+                .andExpect(status().isOk());
+        // Caller lookup, category check, locked snapshot, owner-scoped update, one rollup delta,
+        // the account and category balance deltas and the data version bump
+        assertEquals(8, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void delete_shouldWriteWithoutLoadingTransaction() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(delete("/api/transactions/{id}", firstTransactionId)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isNoContent());
+        // Caller lookup, locked snapshot, owner-scoped delete, rollup delta, empty-rollup cleanup,
+        // the account and category balance deltas and the data version bump
+        assertEquals(8, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,190 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.TestData;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.service.TransactionService;
+import com.yogendra.finance_tracker.service.impl.TransactionSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransactionSearchControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionSearchIndex searchIndex;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    private User user;
+    private Category food;
+    private Category travel;
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+        searchIndex.invalidateAll();
+
+        user = testData.saveUser(TEST_EMAIL);
+        food = testData.saveCategory(user, "Food");
+        travel = testData.saveCategory(user, "Travel");
+
+        save(food, "Weekly groceries at Lidl", LocalDate.of(2025, 6, 2));
+        save(food, "Grocery delivery", LocalDate.of(2025, 6, 9));
+        save(food, "Coffee with Anna", LocalDate.of(2025, 6, 10));
+        save(food, "Café Central coffee", LocalDate.of(2025, 5, 20));
+        save(travel, "Rental car", LocalDate.of(2025, 6, 12));
+        save(travel, "Rent", LocalDate.of(2025, 6, 1));
+        save(travel, null, LocalDate.of(2025, 6, 1));
+    }
+
+    private Transaction save(Category category, String description, LocalDate date) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(BigDecimal.TEN);
+        transaction.setType(TransactionType.EXPENSE);
+        transaction.setDescription(description);
+        transaction.setDate(date);
+        transaction.setCategory(category);
+        return transactionService.createTransaction(transaction, user.getId());
+    }
+
+    private ResultActions search(String query) throws Exception {
+        return mockMvc.perform(get("/api/transactions/search")
+                        .param("q", query)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void search_shouldMatchPrefixesAndFoldCaseAndAccents() throws Exception {
+        search("GROC")
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[*].description",
+                        containsInAnyOrder("Weekly groceries at Lidl", "Grocery delivery")));
+        search("cafe")
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].description").value("Café Central coffee"))
+                .andExpect(jsonPath("$.content[0].categoryName").value("Food"));
+        // Every word has to match
+        search("coffee anna")
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].description").value("Coffee with Anna"));
+        search("sushi")
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void search_shouldRankExactWordsFirstThenNewest() throws Exception {
+        search("rent")
+                .andExpect(jsonPath("$.content[0].description").value("Rent"))
+                .andExpect(jsonPath("$.content[1].description").value("Rental car"));
+        search("coffee")
+                .andExpect(jsonPath("$.content[0].description").value("Coffee with Anna"))
+                .andExpect(jsonPath("$.content[1].description").value("Café Central coffee"));
+    }
+
+    @Test
+    void search_shouldApplyFiltersAndPaging() throws Exception {
+        mockMvc.perform(get("/api/transactions/search")
+                        .param("q", "coffee")
+                        .param("startDate", "2025-06-01")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].description").value("Coffee with Anna"));
+        mockMvc.perform(get("/api/transactions/search")
+                        .param("q", "r")
+                        .param("categoryId", travel.getId().toString())
+                        .param("page", "1")
+                        .param("size", "1")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].description").value("Rent"));
+    }
+
+    @Test
+    void search_shouldFollowWritesAfterTheIndexIsBuilt() throws Exception {
+        search("groceries").andExpect(jsonPath("$.totalElements").value(1));
+
+        String created = mockMvc.perform(post("/api/transactions")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount": 25, "type": "EXPENSE", "description": "Groceries for the party",
+                                 "date": "2025-06-14", "categoryId": %d}
+                                """.formatted(food.getId())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = Long.valueOf(created.replaceAll(".*\"id\":(\\d+).*", "$1"));
+        search("groceries").andExpect(jsonPath("$.totalElements").value(2));
+
+        mockMvc.perform(put("/api/transactions/" + id)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"amount": 25, "type": "EXPENSE", "description": "Party drinks",
+                                 "date": "2025-06-14", "categoryId": %d}
+                                """.formatted(food.getId())))
+                .andExpect(status().isOk());
+        search("groceries").andExpect(jsonPath("$.totalElements").value(1));
+        search("party").andExpect(jsonPath("$.content[0].id").value(id));
+
+        mockMvc.perform(delete("/api/transactions/" + id)
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isNoContent());
+        search("party").andExpect(jsonPath("$.totalElements").value(0));
+
+        mockMvc.perform(post("/api/transactions/bulk/delete-by-filter")
+                        .param("categoryId", travel.getId().toString())
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk());
+        search("rent").andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    void rebuild_shouldIndexTransactionsWithDescriptions() throws Exception {
+        mockMvc.perform(post("/api/transactions/search/rebuild")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.indexed").value(6));
+    }
+
+    @Test
+    void search_shouldNotReturnOtherUsersTransactions() throws Exception {
+        testData.saveUser("other@example.com");
+
+        mockMvc.perform(get("/api/transactions/search")
+                        .param("q", "coffee")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", "other@example.com"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+}
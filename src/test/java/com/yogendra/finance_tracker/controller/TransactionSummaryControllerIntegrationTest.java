@@ -0,0 +1,247 @@
+package com.yogendra.finance_tracker.controller;
+
+import com.yogendra.finance_tracker.TestData;
+import com.yogendra.finance_tracker.model.Category;
+import com.yogendra.finance_tracker.model.Transaction;
+import com.yogendra.finance_tracker.model.TransactionType;
+import com.yogendra.finance_tracker.model.User;
+import com.yogendra.finance_tracker.repository.TransactionRepository;
+import com.yogendra.finance_tracker.service.MonthlyRollupService;
+import com.yogendra.finance_tracker.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransactionSummaryControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MonthlyRollupService rollupService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    private User user;
+    private Category salary;
+    private Category rent;
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+
+        user = testData.saveUser(TEST_EMAIL);
+        salary = testData.saveCategory(user, "Salary");
+        rent = testData.saveCategory(user, "Rent");
+
+        save(user, salary, TransactionType.INCOME, 1000, LocalDate.of(2025, 5, 1));
+        save(user, salary, TransactionType.INCOME, 1000, LocalDate.of(2025, 6, 1));
+        save(user, rent, TransactionType.EXPENSE, 400, LocalDate.of(2025, 5, 3));
+        save(user, rent, TransactionType.EXPENSE, 450, LocalDate.of(2025, 6, 3));
+    }
+
+    // Goes through the service so the monthly rollups are maintained
+    private Transaction save(User user, Category category, TransactionType type, long amount, LocalDate date) {
+        return transactionService.createTransaction(newTransaction(category, type, amount, date), user.getId());
+    }
+
+    private Transaction newTransaction(Category category, TransactionType type, long amount, LocalDate date) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(BigDecimal.valueOf(amount));
+        transaction.setType(type);
+        transaction.setDate(date);
+        transaction.setCategory(category);
+        return transaction;
+    }
+
+    @Test
+    void getTotalsByType_shouldReturnTotals() throws Exception {
+        mockMvc.perform(get("/api/transactions/summary")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].type").value("EXPENSE"))
+                .andExpect(jsonPath("$[0].total").value(850))
+                .andExpect(jsonPath("$[1].type").value("INCOME"))
+                .andExpect(jsonPath("$[1].total").value(2000));
+    }
+
+    @Test
+    void getTotalsByType_shouldHonorDateRange() throws Exception {
+        mockMvc.perform(get("/api/transactions/summary")
+                        .param("startDate", "2025-06-01")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].total").value(450))
+                .andExpect(jsonPath("$[1].total").value(1000));
+    }
+
+    @Test
+    void getTotalsByCategory_shouldReturnOneRowPerCategoryAndType() throws Exception {
+        mockMvc.perform(get("/api/transactions/summary/by-category")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].categoryName").value("Rent"))
+                .andExpect(jsonPath("$[0].total").value(850))
+                .andExpect(jsonPath("$[0].count").value(2));
+    }
+
+    @Test
+    void getTotalsByMonth_shouldReturnOneRowPerMonthAndType() throws Exception {
+        mockMvc.perform(get("/api/transactions/summary/by-month")
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-12-31")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].year").value(2025))
+                .andExpect(jsonPath("$[0].month").value(5))
+                .andExpect(jsonPath("$[2].month").value(6))
+                .andExpect(jsonPath("$[2].type").value("EXPENSE"))
+                .andExpect(jsonPath("$[2].total").value(450));
+    }
+
+    @Test
+    void getTotals_withInvertedRange_shouldBeRejected() throws Exception {
+        mockMvc.perform(get("/api/transactions/summary")
+                        .param("startDate", "2025-06-01")
+                        .param("endDate", "2025-05-01")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Start date must not be after end date"));
+    }
+
+    @Test
+    void partialMonthRange_shouldScanRawRows() throws Exception {
+        mockMvc.perform(get("/api/transactions/summary")
+                        .param("startDate", "2025-06-02")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].type").value("EXPENSE"))
+                .andExpect(jsonPath("$[0].total").value(450));
+    }
+
+    @Test
+    void updateAndDelete_shouldMaintainRollups() throws Exception {
+        Transaction bonus = save(user, salary, TransactionType.INCOME, 300, LocalDate.of(2025, 6, 10));
+
+        // Move the bonus to another month, category and type
+        transactionService.updateTransaction(bonus.getId(),
+                newTransaction(rent, TransactionType.EXPENSE, 50, LocalDate.of(2025, 7, 2)), user.getId());
+        mockMvc.perform(get("/api/transactions/summary/by-month")
+                        .param("startDate", "2025-06-01")
+                        .param("endDate", "2025-07-31")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[1].total").value(1000))
+                .andExpect(jsonPath("$[2].month").value(7))
+                .andExpect(jsonPath("$[2].total").value(50));
+
+        transactionService.deleteTransaction(bonus.getId(), user.getId());
+        mockMvc.perform(post("/api/transactions/summary/rollups/rebuild")
+                        .param("dryRun", "true")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mismatches").value(0))
+                .andExpect(jsonPath("$.rowsBefore").value(4));
+    }
+
+    @Test
+    void uncategorizedTransactions_shouldAccumulateInOneRollup() throws Exception {
+        save(user, null, TransactionType.EXPENSE, 20, LocalDate.of(2025, 6, 5));
+        save(user, null, TransactionType.EXPENSE, 30, LocalDate.of(2025, 6, 6));
+
+        mockMvc.perform(post("/api/transactions/summary/rollups/rebuild")
+                        .param("dryRun", "true")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mismatches").value(0))
+                .andExpect(jsonPath("$.rowsBefore").value(5));
+    }
+
+    @Test
+    void rebuild_shouldRepairRowsWrittenAroundTheService() throws Exception {
+        Transaction direct = newTransaction(salary, TransactionType.INCOME, 250, LocalDate.of(2025, 6, 20));
+        direct.setUser(user);
+        transactionRepository.save(direct);
+
+        mockMvc.perform(post("/api/transactions/summary/rollups/rebuild")
+                        .param("dryRun", "true")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mismatches").value(1))
+                .andExpect(jsonPath("$.repaired").value(false));
+
+        mockMvc.perform(post("/api/transactions/summary/rollups/rebuild")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.repaired").value(true))
+                .andExpect(jsonPath("$.rowsAfter").value(4));
+
+        mockMvc.perform(get("/api/transactions/summary")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].total").value(2250))
+                .andExpect(jsonPath("$[1].count").value(3));
+    }
+
+    @Test
+    void rebuild_shouldHoldWritersUntilItCommits() throws Exception {
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        try {
+            Future<Transaction> write = new TransactionTemplate(transactionManager).execute(status -> {
+                rollupService.rebuild(user.getId(), false);
+                Future<Transaction> pending = writer.submit(
+                        () -> save(user, salary, TransactionType.INCOME, 250, LocalDate.of(2025, 6, 20)));
+                // The write cannot commit while the rebuild holds the user's row
+                assertThrows(TimeoutException.class, () -> pending.get(200, TimeUnit.MILLISECONDS));
+                return pending;
+            });
+            write.get(5, TimeUnit.SECONDS);
+        } finally {
+            writer.shutdownNow();
+        }
+
+        mockMvc.perform(post("/api/transactions/summary/rollups/rebuild")
+                        .param("dryRun", "true")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mismatches").value(0));
+    }
+}
@@ -0,0 +1,140 @@
+package com.yogendra.finance_tracker.security;
+
+import com.yogendra.finance_tracker.TestData;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "rate-limit.read.capacity=3",
+        "rate-limit.read.refill-per-second=0.01",
+        "rate-limit.concurrency.initial-limit=2",
+        "rate-limit.concurrency.min-limit=2",
+        "rate-limit.concurrency.max-limit=2"
+})
+@AutoConfigureMockMvc
+class RateLimitingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TokenBucketRateLimiter rateLimiter;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static final String TEST_EMAIL = "user@example.com";
+    private static final String OTHER_EMAIL = "other@example.com";
+
+    @BeforeEach
+    void setup() {
+        testData.reset();
+        rateLimiter.invalidateAll();
+
+        testData.saveUser(TEST_EMAIL);
+        testData.saveUser(OTHER_EMAIL);
+    }
+
+    @Test
+    void readsBeyondBurst_shouldReturn429ForThatUserAndGroupOnly() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/categories")
+                            .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/categories")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.message").value("Rate limit exceeded; retry later"));
+
+        // Other callers have their own bucket, and writes are a separate group
+        mockMvc.perform(get("/api/categories")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", OTHER_EMAIL))))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/categories")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Food\"}"))
+                .andExpect(status().isOk());
+
+        assertEquals(1.0, meterRegistry.get("http.server.requests.rejected")
+                .tag("group", "read").tag("reason", "rate-limit").counter().count());
+        assertEquals(0, concurrencyLimiter.getInFlight());
+    }
+
+    @Test
+    void saturatedServer_shouldShedApiRequestsWith503ButNotProbes() throws Exception {
+        assertTrue(concurrencyLimiter.tryAcquire());
+        assertTrue(concurrencyLimiter.tryAcquire());
+        try {
+            mockMvc.perform(get("/api/categories")
+                            .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(content().string(containsString("Server is busy")));
+            mockMvc.perform(get("/actuator/health"))
+                    .andExpect(status().isOk());
+        } finally {
+            concurrencyLimiter.release(-1);
+            concurrencyLimiter.release(-1);
+        }
+
+        mockMvc.perform(get("/api/categories")
+                        .with(jwt().jwt(jwt -> jwt.claim("sub", TEST_EMAIL))))
+                .andExpect(status().isOk());
+        assertEquals(0, concurrencyLimiter.getInFlight());
+    }
+
+    @Test
+    void concurrencyLimit_shouldGrowWhileFastAndShrinkWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 200, 2.0);
+
+        for (int i = 0; i < 20; i++) {
+            runAtLimit(limiter, 1);
+        }
+        int grown = limiter.getLimit();
+        assertTrue(grown > 20, "limit should grow while latency is steady, was " + grown);
+
+        for (int i = 0; i < 20; i++) {
+            runAtLimit(limiter, 50);
+        }
+        int shrunk = limiter.getLimit();
+        assertTrue(shrunk < grown, "limit should shrink once latency rises, was " + shrunk);
+        assertTrue(shrunk >= 5);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    // Fills every slot, then completes them all with the given latency
+    private static void runAtLimit(AdaptiveConcurrencyLimiter limiter, long latencyMillis) {
+        int admitted = 0;
+        while (limiter.tryAcquire()) {
+            admitted++;
+        }
+        for (int i = 0; i < admitted; i++) {
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        }
+    }
+}